@@ -0,0 +1,17 @@
+package com.merfonteen.commentservice.config;
+
+import com.merfonteen.tombstone.PostTombstonePurger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Configuration
+public class PostPurgeConfig {
+
+    @Bean
+    public PostTombstonePurger postTombstonePurger(JdbcTemplate jdbcTemplate,
+                                                   @Value("${post-purge.chunk-size}") int chunkSize) {
+        return new PostTombstonePurger(jdbcTemplate, "comment_service", "comments", "parent_id", chunkSize);
+    }
+}
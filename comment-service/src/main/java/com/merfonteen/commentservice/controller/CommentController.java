@@ -8,6 +8,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
+import java.util.List;
+import java.util.Map;
 
 @RequestMapping("/api/comments")
 @RequiredArgsConstructor
@@ -32,6 +34,11 @@ public class CommentController {
         return ResponseEntity.ok(commentService.getCommentCountForPost(postId));
     }
 
+    @PostMapping("/posts/counts")
+    public ResponseEntity<Map<Long, Long>> getCommentCountsForPosts(@RequestBody List<Long> postIds) {
+        return ResponseEntity.ok(commentService.getCommentCountsForPosts(postIds));
+    }
+
     @GetMapping("/{id}/replies/count")
     public ResponseEntity<Long> getRepliesCountForComment(@PathVariable("id") Long commentId) {
         return ResponseEntity.ok(commentService.getRepliesCountForComment(commentId));
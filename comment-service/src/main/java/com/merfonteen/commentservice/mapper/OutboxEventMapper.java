@@ -7,8 +7,6 @@ import com.merfonteen.commentservice.model.enums.OutboxEventType;
 import com.merfonteen.kafkaEvents.CommentCreatedEvent;
 import com.merfonteen.kafkaEvents.CommentRemovedEvent;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
 @RequiredArgsConstructor
@@ -36,10 +34,6 @@ public class OutboxEventMapper {
         }
     }
 
-    public PageRequest buildPageRequest(int page, int size) {
-        return PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "createdAt"));
-    }
-
     private String writeValueAsString(Comment comment, OutboxEventType eventType) {
         switch (eventType) {
             case COMMENT_CREATED -> {
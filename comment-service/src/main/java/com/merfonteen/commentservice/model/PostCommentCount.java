@@ -0,0 +1,6 @@
+package com.merfonteen.commentservice.model;
+
+public interface PostCommentCount {
+    Long getPostId();
+    Long getCount();
+}
@@ -0,0 +1,23 @@
+package com.merfonteen.commentservice.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "removed_posts", schema = "comment_service")
+public class RemovedPost {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Column(name = "removed_at", nullable = false)
+    private Instant removedAt;
+
+    @Column(name = "purged_at")
+    private Instant purgedAt;
+}
@@ -1,16 +1,40 @@
 package com.merfonteen.commentservice.repository;
 
 import com.merfonteen.commentservice.model.Comment;
+import com.merfonteen.commentservice.model.PostCommentCount;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Comments of a removed post stay in the table until the purger reaches them,
+ * so every read below skips posts that have a tombstone in {@code removed_posts}.
+ */
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-    Page<Comment> findAllByPostId(Long postId, Pageable pageable);
-    Page<Comment> findAllByParentId(Long parentId, Pageable pageable);
-    long countAllByPostId(Long postId);
-    long countAllByParentId(Long parentId);
-    int deleteAllByPostId(Long postId);
+    String NOT_REMOVED = "NOT EXISTS (SELECT r FROM RemovedPost r WHERE r.postId = c.postId)";
+
+    @Query(value = "SELECT c FROM Comment c WHERE c.postId = :postId AND " + NOT_REMOVED,
+            countQuery = "SELECT COUNT(c) FROM Comment c WHERE c.postId = :postId AND " + NOT_REMOVED)
+    Page<Comment> findAllByPostId(@Param("postId") Long postId, Pageable pageable);
+
+    @Query(value = "SELECT c FROM Comment c WHERE c.parent.id = :parentId AND " + NOT_REMOVED,
+            countQuery = "SELECT COUNT(c) FROM Comment c WHERE c.parent.id = :parentId AND " + NOT_REMOVED)
+    Page<Comment> findAllByParentId(@Param("parentId") Long parentId, Pageable pageable);
+
+    @Query("SELECT COUNT(c) FROM Comment c WHERE c.postId = :postId AND " + NOT_REMOVED)
+    long countAllByPostId(@Param("postId") Long postId);
+
+    @Query("SELECT c.postId AS postId, COUNT(c) AS count FROM Comment c " +
+           "WHERE c.postId IN :postIds AND " + NOT_REMOVED + " GROUP BY c.postId")
+    List<PostCommentCount> countAllByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    @Query("SELECT COUNT(c) FROM Comment c WHERE c.parent.id = :parentId AND " + NOT_REMOVED)
+    long countAllByParentId(@Param("parentId") Long parentId);
 }
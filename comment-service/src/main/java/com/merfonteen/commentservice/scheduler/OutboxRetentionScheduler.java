@@ -0,0 +1,42 @@
+package com.merfonteen.commentservice.scheduler;
+
+import com.merfonteen.outbox.OutboxPartitionManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class OutboxRetentionScheduler {
+    private final OutboxPartitionManager outboxPartitionManager;
+
+    @Value("${outbox.retention.premake-days}")
+    private int premakeDays;
+
+    @Value("${outbox.retention.days}")
+    private int retentionDays;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 0 * * * ?")
+    public void createUpcomingPartitions() {
+        outboxPartitionManager.createPartitions(outboxPartitionManager.currentDate(), premakeDays);
+    }
+
+    @Scheduled(cron = "0 30 2 * * ?")
+    public void compactOutbox() {
+        LocalDate cutoff = outboxPartitionManager.currentDate().minusDays(retentionDays);
+
+        long reclaimedBytes = outboxPartitionManager.dropSentPartitionsBefore(cutoff);
+        int purgedEvents = outboxPartitionManager.purgeDefaultPartitionBefore(cutoff);
+
+        log.info("Outbox compaction: reclaimed {} bytes of partitions and purged {} default-partition events older than {}",
+                reclaimedBytes, purgedEvents, cutoff);
+    }
+}
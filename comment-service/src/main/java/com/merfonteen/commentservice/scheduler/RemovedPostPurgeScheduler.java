@@ -0,0 +1,29 @@
+package com.merfonteen.commentservice.scheduler;
+
+import com.merfonteen.tombstone.PostTombstonePurger;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@RequiredArgsConstructor
+@Component
+public class RemovedPostPurgeScheduler {
+    private final MeterRegistry meterRegistry;
+    private final PostTombstonePurger postTombstonePurger;
+
+    @Value("${post-purge.run-budget}")
+    private Duration runBudget;
+
+    @Scheduled(fixedDelayString = "${post-purge.interval}")
+    public void purgeRemovedPosts() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long deleted = postTombstonePurger.purge(runBudget);
+        sample.stop(meterRegistry.timer("post.purge.run"));
+        meterRegistry.counter("post.purge.deleted.rows").increment(deleted);
+    }
+}
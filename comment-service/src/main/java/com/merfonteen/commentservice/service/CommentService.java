@@ -3,12 +3,17 @@ package com.merfonteen.commentservice.service;
 import com.merfonteen.commentservice.dto.*;
 import com.merfonteen.kafkaEvents.PostRemovedEvent;
 
+import java.util.List;
+import java.util.Map;
+
 public interface CommentService {
 
     CommentPageResponse getCommentsOnPost(CommentsOnPostSearchRequest searchRequest);
 
     Long getCommentCountForPost(Long postId);
 
+    Map<Long, Long> getCommentCountsForPosts(List<Long> postIds);
+
     CommentPageResponse getReplies(Long parentId, RepliesOnCommentSearchRequest searchRequest);
 
     Long getRepliesCountForComment(Long commentId);
@@ -6,56 +6,36 @@ import com.merfonteen.commentservice.model.Comment;
 import com.merfonteen.commentservice.model.OutboxEvent;
 import com.merfonteen.commentservice.model.enums.OutboxEventType;
 import com.merfonteen.commentservice.repository.OutboxEventRepository;
+import com.merfonteen.outbox.OutboxEventRouter;
+import com.merfonteen.outbox.OutboxMessage;
+import com.merfonteen.outbox.OutboxRecord;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
 
-@Slf4j
 @RequiredArgsConstructor
 @Service
-public class OutboxService {
+public class OutboxService implements OutboxEventRouter {
     private final OutboxEventMapper mapper;
     private final OutboxEventRepository repository;
     private final CommentEventProducer commentEventProducer;
 
-    @Transactional
-    public void publishOutboxEvents() {
-        PageRequest page = mapper.buildPageRequest(0, 100);
-        Page<OutboxEvent> outboxEvents;
-        do {
-            outboxEvents = repository.findAllBySentFalse(page);
-            process(outboxEvents);
-            page = page.next();
-        } while(!outboxEvents.isEmpty());
-    }
-
-    public void process(Page<OutboxEvent> outboxEvents) {
-        for (OutboxEvent event : outboxEvents) {
-            try {
-                switch (event.getEventType()) {
-                    case COMMENT_CREATED -> commentEventProducer.sendCommentCreatedEvent(
-                            mapper.mapCommentCreatedEventFromJson(event.getPayload()));
-                    case COMMENT_REMOVED -> commentEventProducer.sendCommentRemovedEvent(
-                            mapper.mapCommentRemovedEventFromJson(event.getPayload()));
-                    default -> {
-                        log.warn("Unknown event type: {}", event.getEventType());
-                        continue;
-                    }
-                }
-                event.setSent(true);
-            } catch (Exception e) {
-                log.error("Failed to send Kafka event for outboxEventId={}: {}", event.getId(), e.getMessage());
-            }
+    @Override
+    public OutboxMessage route(OutboxRecord record) {
+        OutboxEventType eventType;
+        try {
+            eventType = OutboxEventType.valueOf(record.eventType());
+        } catch (IllegalArgumentException e) {
+            return null;
         }
-
-        repository.saveAll(
-                outboxEvents.stream().filter(OutboxEvent::isSent).toList()
-        );
+        return switch (eventType) {
+            case COMMENT_CREATED -> commentEventProducer.buildCommentCreatedMessage(
+                    mapper.mapCommentCreatedEventFromJson(record.payload()));
+            case COMMENT_REMOVED -> commentEventProducer.buildCommentRemovedMessage(
+                    mapper.mapCommentRemovedEventFromJson(record.payload()));
+        };
     }
 
     @Transactional
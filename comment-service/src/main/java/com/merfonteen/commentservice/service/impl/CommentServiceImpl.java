@@ -10,6 +10,7 @@ import com.merfonteen.commentservice.dto.CommentsOnPostSearchRequest;
 import com.merfonteen.commentservice.dto.RepliesOnCommentSearchRequest;
 import com.merfonteen.commentservice.mapper.CommentMapper;
 import com.merfonteen.commentservice.model.Comment;
+import com.merfonteen.commentservice.model.PostCommentCount;
 import com.merfonteen.commentservice.model.enums.OutboxEventType;
 import com.merfonteen.commentservice.repository.CommentRepository;
 import com.merfonteen.commentservice.service.CommentService;
@@ -18,8 +19,10 @@ import com.merfonteen.commentservice.service.redis.CommentRateLimiter;
 import com.merfonteen.commentservice.service.redis.RedisCacheInvalidator;
 import com.merfonteen.commentservice.service.redis.RedisCounter;
 import com.merfonteen.commentservice.util.AuthUtil;
+import com.merfonteen.exceptions.BadRequestException;
 import com.merfonteen.exceptions.NotFoundException;
 import com.merfonteen.kafkaEvents.PostRemovedEvent;
+import com.merfonteen.tombstone.PostTombstonePurger;
 import feign.FeignException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -31,7 +34,10 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static com.merfonteen.commentservice.config.CacheNames.COMMENTS_BY_POST_ID_CACHE;
 import static com.merfonteen.commentservice.config.CacheNames.COMMENT_REPLIES_CACHE;
@@ -41,6 +47,8 @@ import static com.merfonteen.commentservice.config.CacheNames.COMMENT_REPLIES_CA
 @RequiredArgsConstructor
 @Service
 public class CommentServiceImpl implements CommentService {
+    private static final int MAX_BATCH_SIZE = 100;
+
     private final PostClient postClient;
     private final RedisCounter redisCounter;
     private final CommentMapper commentMapper;
@@ -48,8 +56,10 @@ public class CommentServiceImpl implements CommentService {
     private final CommentRepository commentRepository;
     private final CommentRateLimiter commentRateLimiter;
     private final RedisCacheInvalidator redisCacheInvalidator;
+    private final PostTombstonePurger postTombstonePurger;
 
     @Cacheable(value = COMMENTS_BY_POST_ID_CACHE, key = "#searchRequest.getPostId() + " +
+                                                        "':' + @redisCacheInvalidator.getPostsVersion(#searchRequest.getPostId()) + " +
                                                         "':' + #searchRequest.page + " +
                                                         "':' + #searchRequest.size + " +
                                                         "':' + #searchRequest.sortBy")
@@ -76,7 +86,49 @@ public class CommentServiceImpl implements CommentService {
         return countFromDb;
     }
 
+    @Override
+    public Map<Long, Long> getCommentCountsForPosts(List<Long> postIds) {
+        if (postIds.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException(String.format("Batch size must not exceed %d", MAX_BATCH_SIZE));
+        }
+
+        List<Long> distinctPostIds = postIds.stream().distinct().toList();
+        if (distinctPostIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Long> counts = new LinkedHashMap<>();
+        List<Long> missedPostIds = new ArrayList<>();
+        List<String> cachedValues = redisCounter.getCachedValues(
+                distinctPostIds.stream().map(redisCounter::getCommentsCacheKey).toList());
+
+        for (int i = 0; i < distinctPostIds.size(); i++) {
+            String cachedValue = cachedValues.get(i);
+            if (cachedValue != null) {
+                counts.put(distinctPostIds.get(i), Long.parseLong(cachedValue));
+            } else {
+                missedPostIds.add(distinctPostIds.get(i));
+            }
+        }
+
+        if (!missedPostIds.isEmpty()) {
+            Map<Long, Long> countsFromDb = new LinkedHashMap<>();
+            missedPostIds.forEach(postId -> countsFromDb.put(postId, 0L));
+            for (PostCommentCount postCommentCount : commentRepository.countAllByPostIdIn(missedPostIds)) {
+                countsFromDb.put(postCommentCount.getPostId(), postCommentCount.getCount());
+            }
+
+            Map<String, Long> countersToCache = new LinkedHashMap<>();
+            countsFromDb.forEach((postId, count) -> countersToCache.put(redisCounter.getCommentsCacheKey(postId), count));
+            redisCounter.setCounters(countersToCache);
+            counts.putAll(countsFromDb);
+        }
+
+        return counts;
+    }
+
     @Cacheable(value = COMMENT_REPLIES_CACHE, key = "#parentId + " +
+                                                    "':' + @redisCacheInvalidator.getRepliesVersion(#parentId) + " +
                                                     "':' + #searchRequest.page + " +
                                                     "':' + #searchRequest.size")
     @Override
@@ -194,9 +246,11 @@ public class CommentServiceImpl implements CommentService {
     @Transactional
     @Override
     public void removeCommentsOnPost(PostRemovedEvent event) {
-        int count = commentRepository.deleteAllByPostId(event.getPostId());
-        log.info("Deleted {} comments for postId={}", count, event.getPostId());
+        if (postTombstonePurger.tombstone(event.getPostId())) {
+            log.info("Scheduled comments of postId={} for purge", event.getPostId());
+        }
         redisCacheInvalidator.evictPostsCache(event.getPostId());
+        redisCounter.deleteCounter(redisCounter.getCommentsCacheKey(event.getPostId()));
     }
 
     private Comment getCommentByIdOrThrowException(Long commentId) {
@@ -1,30 +1,26 @@
 package com.merfonteen.commentservice.service.redis;
 
 import com.merfonteen.exceptions.TooManyRequestsException;
-import lombok.RequiredArgsConstructor;
+import com.merfonteen.ratelimit.SlidingWindowRateLimiter;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
 
-@RequiredArgsConstructor
 @Component
 public class CommentRateLimiter {
-    private final StringRedisTemplate stringRedisTemplate;
-
     private static final String CACHE_KEY = "limit:comment:user:";
     private static final int MAX_COMMENTS = 5;
     private static final Duration DURATION = Duration.ofMinutes(1);
 
-    public void limitLeavingComments(Long userId) {
-        String key = CACHE_KEY + userId;
-        Long count = stringRedisTemplate.opsForValue().increment(key);
+    private final SlidingWindowRateLimiter rateLimiter;
 
-        if(count != null && count == 1) {
-            stringRedisTemplate.expire(key, DURATION);
-        }
+    public CommentRateLimiter(StringRedisTemplate stringRedisTemplate) {
+        this.rateLimiter = new SlidingWindowRateLimiter(stringRedisTemplate, CACHE_KEY, MAX_COMMENTS, DURATION);
+    }
 
-        if(count != null && count > MAX_COMMENTS) {
+    public void limitLeavingComments(Long userId) {
+        if (!rateLimiter.tryAcquire(userId)) {
             throw new TooManyRequestsException("You can leave max 5 comments per minute");
         }
     }
@@ -1,45 +1,35 @@
 package com.merfonteen.commentservice.service.redis;
 
+import com.merfonteen.cache.CacheVersionStore;
 import com.merfonteen.commentservice.config.CacheNames;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.Cursor;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
-import java.util.HashSet;
-import java.util.Set;
-
 @Slf4j
-@RequiredArgsConstructor
 @Component
 public class RedisCacheInvalidator {
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final CacheVersionStore cacheVersionStore;
 
-    public void evictPostsCache(Long postId) {
-        String pattern = CacheNames.COMMENTS_BY_POST_ID_CACHE + "::" + postId + ":*";
-        evictCache(pattern, "post", postId);
+    public RedisCacheInvalidator(StringRedisTemplate stringRedisTemplate) {
+        this.cacheVersionStore = new CacheVersionStore(stringRedisTemplate);
     }
 
-    public void evictRepliesCache(Long parentId) {
-        String pattern = CacheNames.COMMENT_REPLIES_CACHE + "::" + parentId + ":*";
-        evictCache(pattern, "reply", parentId);
+    public long getPostsVersion(Long postId) {
+        return cacheVersionStore.getVersion(CacheNames.COMMENTS_BY_POST_ID_CACHE, postId);
+    }
+
+    public long getRepliesVersion(Long parentId) {
+        return cacheVersionStore.getVersion(CacheNames.COMMENT_REPLIES_CACHE, parentId);
     }
 
-    private void evictCache(String pattern, String entityName, Long entityId) {
-        Set<String> keys = new HashSet<>();
-        try (Cursor<String> scan = redisTemplate.scan(ScanOptions.scanOptions()
-                .match(pattern)
-                .count(500)
-                .build())) {
-            scan.forEachRemaining(keys::add);
-        } catch (Exception e) {
-            log.error("Error while evicting cache for {} '{}': {}", entityName, entityId, e.getMessage());
-        }
-        if (!keys.isEmpty()) {
-            redisTemplate.delete(keys);
-            log.info("Evicted {} cached pages for {} '{}'", keys.size(), entityName, entityId);
-        }
+    public void evictPostsCache(Long postId) {
+        cacheVersionStore.bumpVersion(CacheNames.COMMENTS_BY_POST_ID_CACHE, postId);
+        log.info("Bumped cached pages version for post '{}'", postId);
+    }
+
+    public void evictRepliesCache(Long parentId) {
+        cacheVersionStore.bumpVersion(CacheNames.COMMENT_REPLIES_CACHE, parentId);
+        log.info("Bumped cached pages version for reply '{}'", parentId);
     }
 }
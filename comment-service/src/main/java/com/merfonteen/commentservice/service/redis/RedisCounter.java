@@ -1,10 +1,14 @@
 package com.merfonteen.commentservice.service.redis;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 
 @RequiredArgsConstructor
 @Component
@@ -26,10 +30,23 @@ public class RedisCounter {
         return stringRedisTemplate.opsForValue().get(key);
     }
 
+    public List<String> getCachedValues(List<String> keys) {
+        return stringRedisTemplate.opsForValue().multiGet(keys);
+    }
+
     public void setCounter(String key, Long count) {
         stringRedisTemplate.opsForValue().set(key, String.valueOf(count), Duration.ofMinutes(10));
     }
 
+    public void setCounters(Map<String, Long> counts) {
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            counts.forEach((key, count) ->
+                    stringConnection.setEx(key, Duration.ofMinutes(10).toSeconds(), String.valueOf(count)));
+            return null;
+        });
+    }
+
     public void incrementCounter(String key) {
         stringRedisTemplate.opsForValue().increment(key);
     }
@@ -39,4 +56,8 @@ public class RedisCounter {
             stringRedisTemplate.opsForValue().decrement(key);
         }
     }
+
+    public void deleteCounter(String key) {
+        stringRedisTemplate.delete(key);
+    }
 }
@@ -0,0 +1,20 @@
+ALTER TABLE comment_service.outbox_events
+    ADD COLUMN attempts   INT     NOT NULL DEFAULT 0,
+    ADD COLUMN failed     BOOLEAN NOT NULL DEFAULT FALSE,
+    ADD COLUMN last_error VARCHAR;
+
+DROP INDEX comment_service.idx_outbox_events_unsent_id;
+CREATE INDEX idx_outbox_events_unsent_id ON comment_service.outbox_events (id) WHERE sent = FALSE AND failed = FALSE;
+
+CREATE TABLE comment_service.outbox_events_dead_letters
+(
+    id         BIGINT    NOT NULL,
+    event_type VARCHAR   NOT NULL,
+    payload    JSONB     NOT NULL,
+    attempts   INT       NOT NULL,
+    last_error VARCHAR,
+    created_at TIMESTAMP NOT NULL,
+    failed_at  TIMESTAMP NOT NULL DEFAULT NOW(),
+
+    CONSTRAINT pk_outbox_events_dead_letters PRIMARY KEY (id)
+);
@@ -9,6 +9,7 @@ import com.merfonteen.commentservice.dto.CommentsOnPostSearchRequest;
 import com.merfonteen.commentservice.kafka.eventProducer.CommentEventProducer;
 import com.merfonteen.commentservice.mapper.CommentMapper;
 import com.merfonteen.commentservice.model.Comment;
+import com.merfonteen.commentservice.model.PostCommentCount;
 import com.merfonteen.commentservice.model.enums.CommentSortField;
 import com.merfonteen.commentservice.repository.CommentRepository;
 import com.merfonteen.commentservice.service.OutboxService;
@@ -17,6 +18,8 @@ import com.merfonteen.commentservice.service.redis.RedisCacheInvalidator;
 import com.merfonteen.commentservice.service.redis.RedisCounter;
 import com.merfonteen.exceptions.ForbiddenException;
 import com.merfonteen.exceptions.NotFoundException;
+import com.merfonteen.kafkaEvents.PostRemovedEvent;
+import com.merfonteen.tombstone.PostTombstonePurger;
 import feign.FeignException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -29,11 +32,14 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static com.merfonteen.commentservice.service.impl.CommentServiceImplTest.TestResources.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -63,6 +69,9 @@ class CommentServiceImplTest {
     @Mock
     private RedisCacheInvalidator redisCacheInvalidator;
 
+    @Mock
+    private PostTombstonePurger postTombstonePurger;
+
     @InjectMocks
     private CommentServiceImpl commentService;
 
@@ -113,6 +122,23 @@ class CommentServiceImplTest {
         verify(redisCounter).setCounter(cacheKey, 5L);
     }
 
+    @Test
+    void testGetCommentCountsForPosts_ShouldQueryDatabaseOnlyForCacheMisses() {
+        String cachedKey = buildCommentCountCacheKey(POST_ID);
+        String missedKey = buildCommentCountCacheKey(ANOTHER_POST_ID);
+
+        when(redisCounter.getCommentsCacheKey(POST_ID)).thenReturn(cachedKey);
+        when(redisCounter.getCommentsCacheKey(ANOTHER_POST_ID)).thenReturn(missedKey);
+        when(redisCounter.getCachedValues(List.of(cachedKey, missedKey))).thenReturn(Arrays.asList("5", null));
+        when(commentRepository.countAllByPostIdIn(List.of(ANOTHER_POST_ID)))
+                .thenReturn(List.of(buildPostCommentCount(ANOTHER_POST_ID, 3L)));
+
+        Map<Long, Long> result = commentService.getCommentCountsForPosts(List.of(POST_ID, ANOTHER_POST_ID, POST_ID));
+
+        assertThat(result).containsExactly(entry(POST_ID, 5L), entry(ANOTHER_POST_ID, 3L));
+        verify(redisCounter).setCounters(Map.of(missedKey, 3L));
+    }
+
     @Test
     void testCreateComment_Success() {
         CommentCreateRequest requestDto = buildCommentCreateRequest();
@@ -213,8 +239,22 @@ class CommentServiceImplTest {
         assertEquals("You cannot update not your own comment", exception.getMessage());
     }
 
+    @Test
+    void testRemoveCommentsOnPost_ShouldTombstonePostAndEvictCache() {
+        String cacheKey = buildCommentCountCacheKey(POST_ID);
+        when(redisCounter.getCommentsCacheKey(POST_ID)).thenReturn(cacheKey);
+
+        commentService.removeCommentsOnPost(new PostRemovedEvent(POST_ID, USER_ID));
+
+        verify(postTombstonePurger).tombstone(POST_ID);
+        verify(redisCacheInvalidator).evictPostsCache(POST_ID);
+        verify(redisCounter).deleteCounter(cacheKey);
+        verifyNoInteractions(commentRepository);
+    }
+
     static class TestResources {
         static final Long POST_ID = 1L;
+        static final Long ANOTHER_POST_ID = 2L;
         static final Long COMMENT_ID = 1L;
         static final Long USER_ID = 1L;
         static final Long ANOTHER_USER_ID = 100L;
@@ -229,6 +269,20 @@ class CommentServiceImplTest {
             return COMMENT_COUNT_CACHE_KEY + postId;
         }
 
+        static PostCommentCount buildPostCommentCount(Long postId, Long count) {
+            return new PostCommentCount() {
+                @Override
+                public Long getPostId() {
+                    return postId;
+                }
+
+                @Override
+                public Long getCount() {
+                    return count;
+                }
+            };
+        }
+
         static CommentCreateRequest buildCommentCreateRequest() {
             return CommentCreateRequest.builder()
                     .postId(POST_ID)
@@ -0,0 +1,41 @@
+package com.merfonteen.cache;
+
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+/**
+ * Per-entity version counters used as part of cache keys.
+ * Bumping a version makes every cached page built under the previous version unreachable without scanning for keys.
+ */
+public class CacheVersionStore {
+    private static final String CACHE_VERSION_KEY = "cache-version:";
+    private static final Duration CACHE_VERSION_TTL = Duration.ofDays(1);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public CacheVersionStore(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    public long getVersion(String cacheName, Long entityId) {
+        String version = stringRedisTemplate.opsForValue().get(buildVersionKey(cacheName, entityId));
+        return version == null ? 0 : Long.parseLong(version);
+    }
+
+    public void bumpVersion(String cacheName, Long entityId) {
+        String versionKey = buildVersionKey(cacheName, entityId);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.incr(versionKey);
+            stringConnection.expire(versionKey, CACHE_VERSION_TTL.toSeconds());
+            return null;
+        });
+    }
+
+    private String buildVersionKey(String cacheName, Long entityId) {
+        return CACHE_VERSION_KEY + cacheName + ":" + entityId;
+    }
+}
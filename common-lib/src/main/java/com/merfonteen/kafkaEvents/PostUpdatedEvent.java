@@ -0,0 +1,18 @@
+package com.merfonteen.kafkaEvents;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostUpdatedEvent {
+    private Long postId;
+    private Long authorId;
+    private Instant updatedAt;
+}
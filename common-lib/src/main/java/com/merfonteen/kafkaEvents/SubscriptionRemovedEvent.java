@@ -11,4 +11,5 @@ import lombok.NoArgsConstructor;
 @Data
 public class SubscriptionRemovedEvent {
     private Long targetUserId;
+    private Long followerId;
 }
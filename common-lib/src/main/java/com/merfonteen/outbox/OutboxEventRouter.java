@@ -0,0 +1,11 @@
+package com.merfonteen.outbox;
+
+@FunctionalInterface
+public interface OutboxEventRouter {
+
+    /**
+     * Returns the Kafka message for an outbox row, or {@code null} if the row has no destination
+     * and should be marked as sent without publishing.
+     */
+    OutboxMessage route(OutboxRecord record);
+}
@@ -0,0 +1,4 @@
+package com.merfonteen.outbox;
+
+public record OutboxMessage(String topic, String key, Object payload) {
+}
@@ -0,0 +1,106 @@
+package com.merfonteen.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Maintains the daily {@code created_at} range partitions of an {@code outbox_events} table.
+ * Sent events are never deleted row by row: a whole day is dropped once every event in it was published,
+ * which returns its heap and index space to the operating system without leaving dead tuples behind.
+ * Events the relay gave up on are already copied to {@code outbox_events_dead_letters} and do not hold a day back.
+ */
+@Slf4j
+public class OutboxPartitionManager {
+    private static final String PARTITION_PREFIX = "outbox_events_p";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String schema;
+
+    public OutboxPartitionManager(JdbcTemplate jdbcTemplate, String schema) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.schema = schema;
+    }
+
+    public LocalDate currentDate() {
+        return jdbcTemplate.queryForObject("SELECT current_date", LocalDate.class);
+    }
+
+    public int createPartitions(LocalDate from, int days) {
+        int created = 0;
+        for (int i = 0; i <= days; i++) {
+            LocalDate day = from.plusDays(i);
+            String partition = PARTITION_PREFIX + day.format(PARTITION_SUFFIX);
+            if (partitionExists(partition)) {
+                continue;
+            }
+            jdbcTemplate.execute(String.format(
+                    "CREATE TABLE IF NOT EXISTS %s.%s PARTITION OF %s.outbox_events FOR VALUES FROM ('%s') TO ('%s')",
+                    schema, partition, schema, day, day.plusDays(1)));
+            created++;
+        }
+        if (created > 0) {
+            log.info("Created {} outbox partitions in {} starting from {}", created, schema, from);
+        }
+        return created;
+    }
+
+    /**
+     * Drops the partitions that end on or before {@code cutoff} and hold no pending events.
+     *
+     * @return the number of bytes the dropped partitions occupied, indexes and TOAST included
+     */
+    public long dropSentPartitionsBefore(LocalDate cutoff) {
+        long reclaimedBytes = 0;
+        for (String partition : findPartitions()) {
+            LocalDate day = LocalDate.parse(partition.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX);
+            if (day.plusDays(1).isAfter(cutoff)) {
+                continue;
+            }
+            String table = schema + "." + partition;
+            if (hasPendingEvents(table)) {
+                log.warn("Keeping outbox partition {}: it still holds unsent events", table);
+                continue;
+            }
+            Long size = jdbcTemplate.queryForObject("SELECT pg_total_relation_size(?::regclass)", Long.class, table);
+            jdbcTemplate.execute("DROP TABLE IF EXISTS " + table);
+            reclaimedBytes += size == null ? 0 : size;
+            log.info("Dropped outbox partition {} ({} bytes)", table, size);
+        }
+        return reclaimedBytes;
+    }
+
+    /**
+     * Deletes sent or dead-lettered events older than {@code cutoff} that landed in the default partition.
+     */
+    public int purgeDefaultPartitionBefore(LocalDate cutoff) {
+        return jdbcTemplate.update("DELETE FROM " + schema + ".outbox_events_default " +
+                                   "WHERE (sent = true OR failed = true) AND created_at < ?", cutoff);
+    }
+
+    private boolean hasPendingEvents(String table) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM " + table + " WHERE sent = false AND failed = false)", Boolean.class));
+    }
+
+    private boolean partitionExists(String partition) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT to_regclass(?) IS NOT NULL", Boolean.class, schema + "." + partition));
+    }
+
+    private List<String> findPartitions() {
+        return jdbcTemplate.queryForList("""
+                SELECT c.relname
+                FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                JOIN pg_class p ON p.oid = i.inhparent
+                JOIN pg_namespace n ON n.oid = p.relnamespace
+                WHERE n.nspname = ? AND p.relname = 'outbox_events' AND c.relname ~ '^outbox_events_p[0-9]{8}$'
+                ORDER BY c.relname
+                """, String.class, schema);
+    }
+}
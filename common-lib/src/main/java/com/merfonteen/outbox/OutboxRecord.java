@@ -0,0 +1,4 @@
+package com.merfonteen.outbox;
+
+public record OutboxRecord(long id, String eventType, String payload) {
+}
@@ -0,0 +1,167 @@
+package com.merfonteen.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.errors.RetriableException;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Publishes rows of an {@code outbox_events} table to Kafka.
+ * Rows are claimed with {@code FOR UPDATE SKIP LOCKED}, so several instances can drain the same table in parallel.
+ * A row is marked as sent only after the broker acknowledged it; rows whose send failed stay unsent and are retried.
+ * Rows that cannot be routed or that the broker rejects as non-retriable count an attempt instead; after
+ * {@code maxAttempts} they are copied to the {@code <table>_dead_letters} table and flagged as failed,
+ * so a malformed payload neither blocks the relay nor keeps its partition alive.
+ */
+@Slf4j
+public class OutboxRelay {
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final String claimQuery;
+    private final String markSentQuery;
+    private final String recordFailuresQuery;
+    private final int batchSize;
+    private final Duration ackTimeout;
+    private final int maxAttempts;
+
+    public OutboxRelay(JdbcTemplate jdbcTemplate,
+                       TransactionTemplate transactionTemplate,
+                       KafkaTemplate<String, Object> kafkaTemplate,
+                       String table,
+                       int batchSize,
+                       Duration ackTimeout,
+                       int maxAttempts) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.kafkaTemplate = kafkaTemplate;
+        this.batchSize = batchSize;
+        this.ackTimeout = ackTimeout;
+        this.maxAttempts = maxAttempts;
+        this.claimQuery = "SELECT id, event_type, payload FROM " + table +
+                          " WHERE sent = false AND failed = false ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED";
+        this.markSentQuery = "UPDATE " + table + " SET sent = true WHERE id = ANY(?)";
+        this.recordFailuresQuery = """
+                WITH bumped AS (
+                    UPDATE %1$s e
+                    SET attempts = e.attempts + 1, last_error = f.error, failed = e.attempts + 1 >= ?
+                    FROM unnest(?::bigint[], ?::varchar[]) AS f(id, error)
+                    WHERE e.id = f.id
+                    RETURNING e.id, e.event_type, e.payload, e.attempts, e.last_error, e.created_at, e.failed
+                )
+                INSERT INTO %1$s_dead_letters (id, event_type, payload, attempts, last_error, created_at)
+                SELECT id, event_type, payload, attempts, last_error, created_at FROM bumped WHERE failed
+                """.formatted(table);
+    }
+
+    public int drain(OutboxEventRouter router) {
+        int total = 0, claimed;
+        do {
+            BatchResult result = transactionTemplate.execute(status -> relayBatch(router));
+            if (result == null) {
+                break;
+            }
+            claimed = result.claimed();
+            total += result.sent();
+            if (result.sent() < claimed) {
+                break;
+            }
+        } while (claimed == batchSize);
+        return total;
+    }
+
+    private BatchResult relayBatch(OutboxEventRouter router) {
+        List<OutboxRecord> records = jdbcTemplate.query(claimQuery,
+                (rs, rowNum) -> new OutboxRecord(rs.getLong("id"), rs.getString("event_type"), rs.getString("payload")),
+                batchSize);
+        if (records.isEmpty()) {
+            return new BatchResult(0, 0);
+        }
+
+        List<Long> sentIds = new ArrayList<>(records.size());
+        Map<Long, String> failures = new LinkedHashMap<>();
+        Map<Long, CompletableFuture<?>> pending = new LinkedHashMap<>();
+        for (OutboxRecord record : records) {
+            try {
+                OutboxMessage message = router.route(record);
+                if (message == null) {
+                    log.warn("Skipping outbox event {} of unknown type {}", record.id(), record.eventType());
+                    sentIds.add(record.id());
+                    continue;
+                }
+                pending.put(record.id(), kafkaTemplate.send(message.topic(), message.key(), message.payload()));
+            } catch (Exception e) {
+                log.error("Failed to publish outbox event {}: {}", record.id(), e.getMessage());
+                failures.put(record.id(), e.toString());
+            }
+        }
+
+        awaitAcks(pending);
+        for (Map.Entry<Long, CompletableFuture<?>> entry : pending.entrySet()) {
+            CompletableFuture<?> future = entry.getValue();
+            if (!future.isDone()) {
+                continue;
+            }
+            if (!future.isCompletedExceptionally()) {
+                sentIds.add(entry.getKey());
+                continue;
+            }
+            Throwable cause = NestedExceptionUtils.getMostSpecificCause(future.exceptionNow());
+            if (!(cause instanceof RetriableException)) {
+                failures.put(entry.getKey(), cause.toString());
+            }
+        }
+
+        if (!sentIds.isEmpty()) {
+            jdbcTemplate.update(markSentQuery, (Object) sentIds.toArray(Long[]::new));
+        }
+        if (!failures.isEmpty()) {
+            recordFailures(failures);
+        }
+        if (sentIds.size() < records.size()) {
+            log.warn("Published {} of {} claimed outbox events, the rest will be retried", sentIds.size(), records.size());
+        } else {
+            log.debug("Published {} outbox events", sentIds.size());
+        }
+        return new BatchResult(records.size(), sentIds.size());
+    }
+
+    private void recordFailures(Map<Long, String> failures) {
+        int deadLettered = jdbcTemplate.update(recordFailuresQuery, maxAttempts,
+                failures.keySet().toArray(Long[]::new), failures.values().toArray(String[]::new));
+        if (deadLettered > 0) {
+            log.error("Moved {} outbox events to the dead letter table after {} failed attempts", deadLettered, maxAttempts);
+        }
+    }
+
+    private void awaitAcks(Map<Long, CompletableFuture<?>> pending) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        try {
+            CompletableFuture.allOf(pending.values().toArray(CompletableFuture[]::new))
+                    .get(ackTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            log.error("Kafka rejected outbox events: {}", e.getCause().getMessage());
+        } catch (TimeoutException e) {
+            log.error("Timed out after {} waiting for Kafka acks of {} outbox events", ackTimeout, pending.size());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record BatchResult(int claimed, int sent) {
+    }
+}
@@ -0,0 +1,67 @@
+package com.merfonteen.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Wires the outbox relay of a service from {@code outbox.relay.*} properties.
+ * Active once {@code outbox.relay.schema} is set; the service only has to expose an {@link OutboxEventRouter} bean.
+ * The worker's {@code LISTEN} session uses its own unpooled connection opened from {@code spring.datasource.*},
+ * so the application pool keeps its full {@code maximum-pool-size} for request traffic.
+ */
+@Slf4j
+@AutoConfiguration(after = {DataSourceAutoConfiguration.class, JdbcTemplateAutoConfiguration.class,
+        KafkaAutoConfiguration.class})
+@ConditionalOnProperty(prefix = "outbox.relay", name = "schema")
+@EnableConfigurationProperties(OutboxRelayProperties.class)
+public class OutboxRelayAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public OutboxRelay outboxRelay(JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   KafkaTemplate<String, Object> kafkaTemplate,
+                                   OutboxRelayProperties properties) {
+        return new OutboxRelay(jdbcTemplate, new TransactionTemplate(transactionManager), kafkaTemplate,
+                properties.getSchema() + ".outbox_events", properties.getBatchSize(), properties.getAckTimeout(),
+                properties.getMaxAttempts());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(OutboxEventRouter.class)
+    public OutboxRelayWorker outboxRelayWorker(DataSourceProperties dataSourceProperties,
+                                               OutboxRelay outboxRelay,
+                                               OutboxEventRouter outboxEventRouter,
+                                               OutboxRelayProperties properties) {
+        DriverManagerDataSource listenDataSource = new DriverManagerDataSource(dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword());
+        return new OutboxRelayWorker(listenDataSource, properties.getSchema() + "_outbox", () -> {
+            int published = outboxRelay.drain(outboxEventRouter);
+            if (published > 0) {
+                log.info("Published {} outbox events", published);
+            }
+            return published;
+        }, properties.getMinPollInterval(), properties.getMaxPollInterval());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public OutboxPartitionManager outboxPartitionManager(JdbcTemplate jdbcTemplate, OutboxRelayProperties properties) {
+        return new OutboxPartitionManager(jdbcTemplate, properties.getSchema());
+    }
+}
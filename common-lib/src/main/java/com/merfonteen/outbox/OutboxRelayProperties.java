@@ -0,0 +1,25 @@
+package com.merfonteen.outbox;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "outbox.relay")
+@Data
+public class OutboxRelayProperties {
+
+    /**
+     * Schema holding the {@code outbox_events} table; the insert trigger notifies on {@code <schema>_outbox}.
+     */
+    private String schema;
+    private int batchSize = 500;
+    private Duration ackTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Failed routing or non-retriable send attempts after which an event is moved to {@code outbox_events_dead_letters}.
+     */
+    private int maxAttempts = 5;
+    private Duration minPollInterval = Duration.ofMillis(500);
+    private Duration maxPollInterval = Duration.ofSeconds(30);
+}
@@ -0,0 +1,137 @@
+package com.merfonteen.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.context.SmartLifecycle;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.function.IntSupplier;
+
+/**
+ * Runs the outbox relay on a dedicated thread that sleeps on a PostgreSQL {@code LISTEN} channel.
+ * An insert trigger on the outbox table issues {@code NOTIFY}, so new events are drained right after commit.
+ * The wait also acts as a polling backstop: it doubles from {@code minPollInterval} up to {@code maxPollInterval}
+ * while nothing is published and resets as soon as a drain publishes something.
+ * <p>
+ * The {@code LISTEN} session stays open for the lifetime of the worker, so {@code dataSource} should hand out
+ * unpooled connections; borrowing it from the application pool would shrink that pool by one connection for good.
+ */
+@Slf4j
+public class OutboxRelayWorker implements SmartLifecycle {
+    private final DataSource dataSource;
+    private final String channel;
+    private final IntSupplier drain;
+    private final Duration minPollInterval;
+    private final Duration maxPollInterval;
+
+    private volatile boolean running;
+    private Thread thread;
+    private Connection listenConnection;
+
+    public OutboxRelayWorker(DataSource dataSource,
+                             String channel,
+                             IntSupplier drain,
+                             Duration minPollInterval,
+                             Duration maxPollInterval) {
+        this.dataSource = dataSource;
+        this.channel = channel;
+        this.drain = drain;
+        this.minPollInterval = minPollInterval;
+        this.maxPollInterval = maxPollInterval;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        thread = Thread.ofPlatform()
+                .name("outbox-relay-" + channel)
+                .daemon()
+                .start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        Duration interval = minPollInterval;
+        while (running) {
+            interval = nextPollInterval(interval, drainSafely());
+            awaitWakeup(interval);
+        }
+        closeListenConnection();
+    }
+
+    private int drainSafely() {
+        try {
+            return drain.getAsInt();
+        } catch (Exception e) {
+            log.error("Outbox relay failed: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    Duration nextPollInterval(Duration interval, int published) {
+        if (published > 0) {
+            return minPollInterval;
+        }
+        Duration doubled = interval.multipliedBy(2);
+        return doubled.compareTo(maxPollInterval) > 0 ? maxPollInterval : doubled;
+    }
+
+    private void awaitWakeup(Duration timeout) {
+        try {
+            PGConnection connection = listenConnection().unwrap(PGConnection.class);
+            connection.getNotifications((int) Math.max(1, timeout.toMillis()));
+        } catch (SQLException e) {
+            log.warn("LISTEN on channel '{}' failed, falling back to polling: {}", channel, e.getMessage());
+            closeListenConnection();
+            sleep(timeout);
+        }
+    }
+
+    private Connection listenConnection() throws SQLException {
+        if (listenConnection == null || listenConnection.isClosed()) {
+            Connection connection = dataSource.getConnection();
+            connection.setAutoCommit(true);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("LISTEN " + channel);
+            }
+            listenConnection = connection;
+        }
+        return listenConnection;
+    }
+
+    private void closeListenConnection() {
+        if (listenConnection == null) {
+            return;
+        }
+        try (Connection connection = listenConnection; Statement statement = connection.createStatement()) {
+            statement.execute("UNLISTEN *");
+        } catch (SQLException e) {
+            log.debug("Failed to close LISTEN connection: {}", e.getMessage());
+        }
+        listenConnection = null;
+    }
+
+    private void sleep(Duration timeout) {
+        try {
+            Thread.sleep(timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
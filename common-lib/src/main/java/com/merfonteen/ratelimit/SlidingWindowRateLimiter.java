@@ -0,0 +1,83 @@
+package com.merfonteen.ratelimit;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sliding-window rate limiter backed by one Lua script per check.
+ * The script weighs the previous fixed window by how much of it still overlaps the sliding window,
+ * so bursts at a window boundary are not doubled, and increments and sets the TTL atomically.
+ * Spring runs the script with {@code EVALSHA}, falling back to {@code EVAL} only when Redis has not cached it yet.
+ * A rejected subject is remembered locally until its earliest possible retry, and checks in that period
+ * are rejected without a Redis round trip.
+ */
+public class SlidingWindowRateLimiter {
+    private static final int MAX_LOCAL_ENTRIES = 10_000;
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SLIDING_WINDOW_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local window = tonumber(ARGV[2])
+            local limit = tonumber(ARGV[3])
+            local elapsed = now % window
+            local previous = tonumber(redis.call('GET', KEYS[1]) or '0')
+            local current = tonumber(redis.call('GET', KEYS[2]) or '0')
+            if previous * (window - elapsed) / window + current >= limit then
+                if current >= limit or previous == 0 then
+                    return {0, window - elapsed}
+                end
+                local unblockAt = math.ceil(window * (1 - (limit - current) / previous))
+                return {0, math.max(1, unblockAt - elapsed)}
+            end
+            redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], window * 2)
+            return {1, 0}
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String keyPrefix;
+    private final int limit;
+    private final long windowMillis;
+    private final Map<String, Long> blockedUntil = new ConcurrentHashMap<>();
+
+    public SlidingWindowRateLimiter(StringRedisTemplate redisTemplate, String keyPrefix, int limit, Duration window) {
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = keyPrefix;
+        this.limit = limit;
+        this.windowMillis = window.toMillis();
+    }
+
+    public boolean tryAcquire(Object subject) {
+        String key = keyPrefix + subject;
+        long now = System.currentTimeMillis();
+
+        Long blocked = blockedUntil.get(key);
+        if (blocked != null) {
+            if (now < blocked) {
+                return false;
+            }
+            blockedUntil.remove(key, blocked);
+        }
+
+        long window = now / windowMillis;
+        List<?> result = redisTemplate.execute(SLIDING_WINDOW_SCRIPT,
+                List.of(key + ":" + (window - 1), key + ":" + window),
+                String.valueOf(now), String.valueOf(windowMillis), String.valueOf(limit));
+
+        if (result == null || ((Number) result.get(0)).longValue() == 1) {
+            return true;
+        }
+
+        if (blockedUntil.size() >= MAX_LOCAL_ENTRIES) {
+            blockedUntil.values().removeIf(until -> until <= now);
+        }
+        blockedUntil.put(key, now + ((Number) result.get(1)).longValue());
+        return false;
+    }
+}
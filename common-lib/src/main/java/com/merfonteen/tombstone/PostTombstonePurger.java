@@ -0,0 +1,109 @@
+package com.merfonteen.tombstone;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+/**
+ * Removes the rows a service keeps for deleted posts in two steps.
+ * {@link #tombstone(long)} only records the post id in {@code removed_posts}, so the post-removed listener returns at once.
+ * {@link #purge(Duration)} later deletes the rows in bounded set-based chunks, each in its own short transaction,
+ * and records the progress on the tombstone so an interrupted purge resumes where it stopped.
+ * For a table whose rows reference a parent row with {@code ON DELETE CASCADE}, pass the parent column:
+ * each chunk then takes only rows nobody points at, so the cascade never widens a chunk past its limit.
+ */
+@Slf4j
+public class PostTombstonePurger {
+    private static final int TOMBSTONES_PER_RUN = 10;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String tombstoneTable;
+    private final String insertTombstoneQuery;
+    private final String allTombstonesQuery;
+    private final String pendingTombstonesQuery;
+    private final String deleteChunkQuery;
+    private final String recordProgressQuery;
+    private final String markPurgedQuery;
+    private final int chunkSize;
+    private final boolean hierarchical;
+
+    public PostTombstonePurger(JdbcTemplate jdbcTemplate, String schema, String table, int chunkSize) {
+        this(jdbcTemplate, schema, table, null, chunkSize);
+    }
+
+    public PostTombstonePurger(JdbcTemplate jdbcTemplate, String schema, String table, String parentColumn, int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkSize = chunkSize;
+        this.hierarchical = parentColumn != null;
+        this.tombstoneTable = schema + ".removed_posts";
+        this.insertTombstoneQuery = "INSERT INTO " + tombstoneTable + " (post_id) VALUES (?) ON CONFLICT (post_id) DO NOTHING";
+        this.allTombstonesQuery = "SELECT post_id FROM " + tombstoneTable;
+        this.pendingTombstonesQuery = "SELECT post_id FROM " + tombstoneTable +
+                                      " WHERE purged_at IS NULL ORDER BY removed_at LIMIT " + TOMBSTONES_PER_RUN;
+        this.deleteChunkQuery = "DELETE FROM " + schema + "." + table +
+                                " WHERE id IN (SELECT c.id FROM " + schema + "." + table + " c WHERE c.post_id = ?" +
+                                (hierarchical
+                                        ? " AND NOT EXISTS (SELECT 1 FROM " + schema + "." + table +
+                                          " r WHERE r." + parentColumn + " = c.id)"
+                                        : "") +
+                                " LIMIT ?)";
+        this.recordProgressQuery = "UPDATE " + tombstoneTable + " SET deleted_rows = deleted_rows + ? WHERE post_id = ?";
+        this.markPurgedQuery = "UPDATE " + tombstoneTable + " SET purged_at = NOW() WHERE post_id = ?";
+    }
+
+    public boolean tombstone(long postId) {
+        return jdbcTemplate.update(insertTombstoneQuery, postId) > 0;
+    }
+
+    /**
+     * Streams the ids of every removed post, purged or not.
+     */
+    public void forEachTombstone(LongConsumer consumer) {
+        jdbcTemplate.query(allTombstonesQuery, (RowCallbackHandler) rs -> consumer.accept(rs.getLong(1)));
+    }
+
+    /**
+     * Purges pending tombstones oldest first until they are all done or {@code budget} is spent.
+     *
+     * @return the number of rows deleted in this run
+     */
+    public long purge(Duration budget) {
+        List<Long> postIds = jdbcTemplate.queryForList(pendingTombstonesQuery, Long.class);
+        if (postIds.isEmpty()) {
+            return 0;
+        }
+
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + budget.toNanos();
+        long total = 0;
+        for (Long postId : postIds) {
+            int deleted;
+            boolean drained;
+            do {
+                deleted = jdbcTemplate.update(deleteChunkQuery, postId, chunkSize);
+                if (deleted > 0) {
+                    jdbcTemplate.update(recordProgressQuery, deleted, postId);
+                    total += deleted;
+                }
+                // A short chunk of leaves can still leave their parents behind, so trees finish on an empty chunk.
+                drained = hierarchical ? deleted == 0 : deleted < chunkSize;
+            } while (!drained && System.nanoTime() < deadline);
+
+            if (drained) {
+                jdbcTemplate.update(markPurgedQuery, postId);
+                log.info("Purged removed post {} from {}", postId, tombstoneTable);
+            }
+            if (System.nanoTime() >= deadline) {
+                break;
+            }
+        }
+
+        long elapsedMillis = Math.max(1, Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+        log.info("Purge run deleted {} rows in {} ms ({} rows/s)", total, elapsedMillis, total * 1000 / elapsedMillis);
+        return total;
+    }
+}
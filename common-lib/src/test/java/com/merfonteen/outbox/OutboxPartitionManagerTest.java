@@ -0,0 +1,95 @@
+package com.merfonteen.outbox;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.merfonteen.outbox.OutboxPartitionManagerTest.TestResources.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxPartitionManagerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private OutboxPartitionManager outboxPartitionManager;
+
+    @BeforeEach
+    void setUp() {
+        outboxPartitionManager = new OutboxPartitionManager(jdbcTemplate, SCHEMA);
+    }
+
+    @Test
+    void testDropSentPartitionsBefore_ShouldDropPublishedPartitionsEndingBeforeCutoff() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq(SCHEMA)))
+                .thenReturn(List.of(OLD_PARTITION, CUTOFF_PARTITION));
+        when(jdbcTemplate.queryForObject(contains("FROM " + SCHEMA + "." + OLD_PARTITION), eq(Boolean.class)))
+                .thenReturn(false);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq(SCHEMA + "." + OLD_PARTITION)))
+                .thenReturn(PARTITION_SIZE);
+
+        long reclaimed = outboxPartitionManager.dropSentPartitionsBefore(CUTOFF);
+
+        assertThat(reclaimed).isEqualTo(PARTITION_SIZE);
+        verify(jdbcTemplate).execute("DROP TABLE IF EXISTS " + SCHEMA + "." + OLD_PARTITION);
+        verify(jdbcTemplate, never()).execute("DROP TABLE IF EXISTS " + SCHEMA + "." + CUTOFF_PARTITION);
+    }
+
+    @Test
+    void testDropSentPartitionsBefore_ShouldKeepPartition_WhenItHoldsPendingEvents() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq(SCHEMA))).thenReturn(List.of(OLD_PARTITION));
+        when(jdbcTemplate.queryForObject(contains("FROM " + SCHEMA + "." + OLD_PARTITION), eq(Boolean.class)))
+                .thenReturn(true);
+
+        long reclaimed = outboxPartitionManager.dropSentPartitionsBefore(CUTOFF);
+
+        assertThat(reclaimed).isZero();
+        verify(jdbcTemplate, never()).execute(contains("DROP TABLE"));
+    }
+
+    @Test
+    void testDropSentPartitionsBefore_ShouldIgnoreDeadLetteredEvents_WhenCheckingForPendingEvents() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq(SCHEMA))).thenReturn(List.of(OLD_PARTITION));
+        when(jdbcTemplate.queryForObject(contains("FROM " + SCHEMA + "." + OLD_PARTITION), eq(Boolean.class)))
+                .thenReturn(false);
+
+        outboxPartitionManager.dropSentPartitionsBefore(CUTOFF);
+
+        verify(jdbcTemplate).queryForObject(contains("WHERE sent = false AND failed = false"), eq(Boolean.class));
+    }
+
+    @Test
+    void testCreatePartitions_ShouldSkipExistingPartitions() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), eq(SCHEMA + "." + CUTOFF_PARTITION)))
+                .thenReturn(true);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), eq(SCHEMA + ".outbox_events_p20261019")))
+                .thenReturn(false);
+
+        int created = outboxPartitionManager.createPartitions(CUTOFF, 1);
+
+        assertThat(created).isEqualTo(1);
+        verify(jdbcTemplate).execute("CREATE TABLE IF NOT EXISTS " + SCHEMA + ".outbox_events_p20261019 PARTITION OF " +
+                                     SCHEMA + ".outbox_events FOR VALUES FROM ('2026-10-19') TO ('2026-10-20')");
+    }
+
+    static class TestResources {
+        static final String SCHEMA = "post_service";
+        static final LocalDate CUTOFF = LocalDate.of(2026, 10, 18);
+        static final String OLD_PARTITION = "outbox_events_p20261017";
+        static final String CUTOFF_PARTITION = "outbox_events_p20261018";
+        static final long PARTITION_SIZE = 8192L;
+    }
+}
@@ -0,0 +1,188 @@
+package com.merfonteen.outbox;
+
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.merfonteen.outbox.OutboxRelayTest.TestResources.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+    @Mock
+    private OutboxEventRouter router;
+
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        outboxRelay = new OutboxRelay(jdbcTemplate, transactionTemplate, kafkaTemplate, TABLE, BATCH_SIZE, ACK_TIMEOUT,
+                MAX_ATTEMPTS);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    void testDrain_ShouldClaimUnsentEventsWithSkipLocked() {
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(BATCH_SIZE))).thenReturn(List.of());
+
+        int published = outboxRelay.drain(router);
+
+        ArgumentCaptor<String> query = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).query(query.capture(), any(RowMapper.class), eq(BATCH_SIZE));
+        assertThat(query.getValue())
+                .contains("FROM " + TABLE)
+                .contains("sent = false AND failed = false")
+                .endsWith("ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED");
+        assertThat(published).isZero();
+    }
+
+    @Test
+    void testDrain_ShouldMarkEventsSent_WhenKafkaAcknowledged() {
+        claim(List.of(FIRST, SECOND));
+        when(router.route(any())).thenAnswer(invocation -> message(invocation.getArgument(0)));
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        int published = outboxRelay.drain(router);
+
+        assertThat(published).isEqualTo(2);
+        assertThat(markedSent()).containsExactly(FIRST.id(), SECOND.id());
+        verify(jdbcTemplate, never()).update(startsWith("WITH bumped"), any(), any(), any());
+    }
+
+    @Test
+    void testDrain_ShouldLeaveEventUnsentWithoutAttempt_WhenKafkaFailsWithRetriableError() {
+        claim(List.of(FIRST, SECOND));
+        when(router.route(any())).thenAnswer(invocation -> message(invocation.getArgument(0)));
+        when(kafkaTemplate.send(TOPIC, String.valueOf(FIRST.id()), FIRST.payload()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        when(kafkaTemplate.send(TOPIC, String.valueOf(SECOND.id()), SECOND.payload()))
+                .thenReturn(CompletableFuture.failedFuture(new TimeoutException("broker unavailable")));
+
+        int published = outboxRelay.drain(router);
+
+        assertThat(published).isEqualTo(1);
+        assertThat(markedSent()).containsExactly(FIRST.id());
+        verify(jdbcTemplate, never()).update(startsWith("WITH bumped"), any(), any(), any());
+    }
+
+    @Test
+    void testDrain_ShouldRecordFailedAttempt_WhenRouteThrows() {
+        claim(List.of(FIRST));
+        when(router.route(FIRST)).thenThrow(new IllegalArgumentException("malformed payload"));
+
+        int published = outboxRelay.drain(router);
+
+        assertThat(published).isZero();
+        verify(jdbcTemplate, never()).update(startsWith("UPDATE"), any(Object.class));
+        ArgumentCaptor<Object> ids = ArgumentCaptor.forClass(Object.class);
+        ArgumentCaptor<Object> errors = ArgumentCaptor.forClass(Object.class);
+        verify(jdbcTemplate).update(startsWith("WITH bumped"), eq(MAX_ATTEMPTS), ids.capture(), errors.capture());
+        assertThat((Long[]) ids.getValue()).containsExactly(FIRST.id());
+        assertThat((String[]) errors.getValue()).singleElement().asString().contains("malformed payload");
+    }
+
+    @Test
+    void testDrain_ShouldRecordFailedAttempt_WhenKafkaRejectsEventAsNonRetriable() {
+        claim(List.of(FIRST));
+        when(router.route(FIRST)).thenReturn(message(FIRST));
+        when(kafkaTemplate.send(anyString(), anyString(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new RecordTooLargeException("too large")));
+
+        int published = outboxRelay.drain(router);
+
+        assertThat(published).isZero();
+        ArgumentCaptor<Object> ids = ArgumentCaptor.forClass(Object.class);
+        verify(jdbcTemplate).update(startsWith("WITH bumped"), eq(MAX_ATTEMPTS), ids.capture(), any());
+        assertThat((Long[]) ids.getValue()).containsExactly(FIRST.id());
+    }
+
+    @Test
+    void testDrain_ShouldMarkSkippedEventSent_WhenRouteReturnsNull() {
+        claim(List.of(FIRST));
+        when(router.route(FIRST)).thenReturn(null);
+
+        int published = outboxRelay.drain(router);
+
+        assertThat(published).isEqualTo(1);
+        assertThat(markedSent()).containsExactly(FIRST.id());
+        verify(kafkaTemplate, never()).send(anyString(), anyString(), any());
+    }
+
+    @Test
+    void testDrain_ShouldClaimNextBatch_WhenBatchWasFull() {
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(BATCH_SIZE)))
+                .thenReturn(List.of(FIRST, SECOND))
+                .thenReturn(List.of());
+        when(router.route(any())).thenReturn(null);
+
+        outboxRelay.drain(router);
+
+        verify(jdbcTemplate, times(2)).query(anyString(), any(RowMapper.class), eq(BATCH_SIZE));
+    }
+
+    @Test
+    void testDrain_ShouldStopDraining_WhenBatchHadFailures() {
+        claim(List.of(FIRST, SECOND));
+        when(router.route(any())).thenThrow(new IllegalArgumentException("malformed payload"));
+
+        outboxRelay.drain(router);
+
+        verify(jdbcTemplate, times(1)).query(anyString(), any(RowMapper.class), eq(BATCH_SIZE));
+    }
+
+    private void claim(List<OutboxRecord> records) {
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(BATCH_SIZE)))
+                .thenReturn(records)
+                .thenReturn(List.of());
+    }
+
+    private Long[] markedSent() {
+        ArgumentCaptor<Object> ids = ArgumentCaptor.forClass(Object.class);
+        verify(jdbcTemplate).update(startsWith("UPDATE " + TABLE + " SET sent = true"), ids.capture());
+        return (Long[]) ids.getValue();
+    }
+
+    static class TestResources {
+        static final String TABLE = "post_service.outbox_events";
+        static final String TOPIC = "post-created-event";
+        static final int BATCH_SIZE = 2;
+        static final int MAX_ATTEMPTS = 5;
+        static final Duration ACK_TIMEOUT = Duration.ofSeconds(1);
+        static final OutboxRecord FIRST = new OutboxRecord(1L, "POST_CREATED", "{\"postId\":10}");
+        static final OutboxRecord SECOND = new OutboxRecord(2L, "POST_CREATED", "{\"postId\":11}");
+
+        static OutboxMessage message(OutboxRecord record) {
+            return new OutboxMessage(TOPIC, String.valueOf(record.id()), record.payload());
+        }
+    }
+}
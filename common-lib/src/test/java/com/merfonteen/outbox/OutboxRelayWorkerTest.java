@@ -0,0 +1,97 @@
+package com.merfonteen.outbox;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGConnection;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.merfonteen.outbox.OutboxRelayWorkerTest.TestResources.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayWorkerTest {
+
+    @Mock
+    private DataSource dataSource;
+    @Mock
+    private Connection connection;
+    @Mock
+    private PGConnection pgConnection;
+    @Mock
+    private Statement statement;
+
+    @Test
+    void testNextPollInterval_ShouldDoubleUpToMax_WhenNothingWasPublished() {
+        OutboxRelayWorker worker = new OutboxRelayWorker(dataSource, CHANNEL, () -> 0, MIN_INTERVAL, MAX_INTERVAL);
+
+        assertThat(worker.nextPollInterval(MIN_INTERVAL, 0)).isEqualTo(MIN_INTERVAL.multipliedBy(2));
+        assertThat(worker.nextPollInterval(MAX_INTERVAL.dividedBy(2), 0)).isEqualTo(MAX_INTERVAL);
+        assertThat(worker.nextPollInterval(MAX_INTERVAL, 0)).isEqualTo(MAX_INTERVAL);
+    }
+
+    @Test
+    void testNextPollInterval_ShouldResetToMin_WhenEventsWerePublished() {
+        OutboxRelayWorker worker = new OutboxRelayWorker(dataSource, CHANNEL, () -> 0, MIN_INTERVAL, MAX_INTERVAL);
+
+        assertThat(worker.nextPollInterval(MAX_INTERVAL, 3)).isEqualTo(MIN_INTERVAL);
+    }
+
+    @Test
+    void testRun_ShouldReuseSingleListenConnection_AndReleaseItOnStop() throws Exception {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        CountDownLatch drains = new CountDownLatch(3);
+        OutboxRelayWorker worker = new OutboxRelayWorker(dataSource, CHANNEL, () -> {
+            drains.countDown();
+            return 0;
+        }, Duration.ofMillis(1), Duration.ofMillis(1));
+
+        worker.start();
+        assertThat(drains.await(5, TimeUnit.SECONDS)).isTrue();
+        worker.stop();
+
+        verify(connection, timeout(5000)).close();
+        verify(dataSource, times(1)).getConnection();
+        verify(statement).execute("LISTEN " + CHANNEL);
+        verify(statement).execute("UNLISTEN *");
+        verify(pgConnection, atLeast(2)).getNotifications(anyInt());
+    }
+
+    @Test
+    void testRun_ShouldKeepDraining_WhenListenConnectionIsUnavailable() throws Exception {
+        when(dataSource.getConnection()).thenThrow(new SQLException("too many connections"));
+        CountDownLatch drains = new CountDownLatch(2);
+        OutboxRelayWorker worker = new OutboxRelayWorker(dataSource, CHANNEL, () -> {
+            drains.countDown();
+            return 0;
+        }, Duration.ofMillis(1), Duration.ofMillis(1));
+
+        worker.start();
+        boolean drainedAgain = drains.await(5, TimeUnit.SECONDS);
+        worker.stop();
+
+        assertThat(drainedAgain).isTrue();
+    }
+
+    static class TestResources {
+        static final String CHANNEL = "post_service_outbox";
+        static final Duration MIN_INTERVAL = Duration.ofMillis(500);
+        static final Duration MAX_INTERVAL = Duration.ofSeconds(30);
+    }
+}
@@ -0,0 +1,112 @@
+package com.merfonteen.ratelimit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+
+import static com.merfonteen.ratelimit.SlidingWindowRateLimiterTest.TestResources.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+class SlidingWindowRateLimiterTest {
+
+    @Container
+    static final GenericContainer<?> redisContainer = new GenericContainer<>("redis:7.2.4")
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(redisContainer.getHost(), redisContainer.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+    }
+
+    @Test
+    void testTryAcquire_ShouldAllowUpToLimitAndRejectNext() {
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(redisTemplate, KEY_PREFIX, LIMIT, LONG_WINDOW);
+
+        for (int i = 0; i < LIMIT; i++) {
+            assertThat(limiter.tryAcquire(SUBJECT)).isTrue();
+        }
+        assertThat(limiter.tryAcquire(SUBJECT)).isFalse();
+    }
+
+    @Test
+    void testTryAcquire_ShouldLimitSubjectsIndependently() {
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(redisTemplate, KEY_PREFIX, LIMIT, LONG_WINDOW);
+
+        for (int i = 0; i < LIMIT; i++) {
+            limiter.tryAcquire(SUBJECT);
+        }
+
+        assertThat(limiter.tryAcquire(SUBJECT)).isFalse();
+        assertThat(limiter.tryAcquire(ANOTHER_SUBJECT)).isTrue();
+    }
+
+    @Test
+    void testTryAcquire_ShouldKeepRejectingLocallyUntilRetryTime() {
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(redisTemplate, KEY_PREFIX, LIMIT, LONG_WINDOW);
+        for (int i = 0; i <= LIMIT; i++) {
+            limiter.tryAcquire(SUBJECT);
+        }
+
+        redisTemplate.delete(redisTemplate.keys(KEY_PREFIX + "*"));
+
+        assertThat(limiter.tryAcquire(SUBJECT)).isFalse();
+    }
+
+    @Test
+    void testTryAcquire_ShouldWeighPreviousWindow() {
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(redisTemplate, KEY_PREFIX, LIMIT, LONG_WINDOW);
+        long previousWindow = System.currentTimeMillis() / LONG_WINDOW.toMillis() - 1;
+        redisTemplate.opsForValue().set(KEY_PREFIX + SUBJECT + ":" + previousWindow, String.valueOf(LIMIT * 1_000_000L));
+
+        assertThat(limiter.tryAcquire(SUBJECT)).isFalse();
+    }
+
+    @Test
+    void testTryAcquire_ShouldAllowAgainAfterWindowExpires() throws InterruptedException {
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(redisTemplate, KEY_PREFIX, LIMIT, SHORT_WINDOW);
+        for (int i = 0; i < LIMIT; i++) {
+            limiter.tryAcquire(SUBJECT);
+        }
+        assertThat(limiter.tryAcquire(SUBJECT)).isFalse();
+
+        Thread.sleep(SHORT_WINDOW.multipliedBy(2).plusMillis(50).toMillis());
+
+        assertThat(limiter.tryAcquire(SUBJECT)).isTrue();
+    }
+
+    static class TestResources {
+        static final String KEY_PREFIX = "test-limiter::user::";
+        static final Long SUBJECT = 1L;
+        static final Long ANOTHER_SUBJECT = 2L;
+        static final int LIMIT = 3;
+        static final Duration LONG_WINDOW = Duration.ofHours(1);
+        static final Duration SHORT_WINDOW = Duration.ofMillis(200);
+    }
+}
@@ -0,0 +1,15 @@
+package com.merfonteen.feedservice.client;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.List;
+import java.util.Map;
+
+@FeignClient(name = "comment-service", url = "${comment-service.url}")
+public interface CommentClient {
+
+    @PostMapping("/api/comments/posts/counts")
+    Map<Long, Long> getCommentCounts(@RequestBody List<Long> postIds);
+}
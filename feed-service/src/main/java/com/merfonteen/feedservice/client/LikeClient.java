@@ -0,0 +1,15 @@
+package com.merfonteen.feedservice.client;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.List;
+import java.util.Map;
+
+@FeignClient(name = "like-service", url = "${like-service.url}")
+public interface LikeClient {
+
+    @PostMapping("/api/likes/posts/counts")
+    Map<Long, Long> getLikeCounts(@RequestBody List<Long> postIds);
+}
@@ -0,0 +1,24 @@
+package com.merfonteen.feedservice.client;
+
+import com.merfonteen.feedservice.dto.PostDto;
+import com.merfonteen.feedservice.dto.UserPostsDto;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
+
+@FeignClient(name = "post-service", url = "${post-service.url}")
+public interface PostClient {
+
+    @PostMapping("/api/posts/batch")
+    List<PostDto> getPostsByIds(@RequestBody List<Long> ids);
+
+    @GetMapping("/api/posts/users/{userId}")
+    UserPostsDto getUserPosts(@PathVariable("userId") Long userId,
+                              @RequestParam("page") int page,
+                              @RequestParam("size") int size);
+}
@@ -1,7 +1,6 @@
 package com.merfonteen.feedservice.config;
 
 public class CacheNames {
-    public static final String FEED_CACHE = "feed";
     public static final String SUBSCRIPTION_CACHE = "user-subscriptions";
     public static final String SUBSCRIBERS_CACHE = "user-subscribers";
 }
@@ -0,0 +1,17 @@
+package com.merfonteen.feedservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class FanOutConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService fanOutExecutor(@Value("${feed.fan-out.parallelism}") int parallelism) {
+        return Executors.newFixedThreadPool(parallelism, Thread.ofVirtual().name("fan-out-", 0).factory());
+    }
+}
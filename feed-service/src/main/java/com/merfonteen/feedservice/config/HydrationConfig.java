@@ -0,0 +1,41 @@
+package com.merfonteen.feedservice.config;
+
+import com.merfonteen.feedservice.service.PostContentCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Slf4j
+@Configuration
+public class HydrationConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService hydrationExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("feed-hydration-", 0).factory());
+    }
+
+    @Bean
+    public RedisMessageListenerContainer postContentEvictionListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            PostContentCache postContentCache,
+            @Value("${feed.hydration.eviction-channel}") String channel) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener((message, pattern) -> {
+            try {
+                postContentCache.evictLocal(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+            } catch (NumberFormatException e) {
+                log.warn("Skipping malformed post eviction message: {}", e.getMessage());
+            }
+        }, ChannelTopic.of(channel));
+        return container;
+    }
+}
@@ -3,6 +3,9 @@ package com.merfonteen.feedservice.config;
 import com.merfonteen.configs.CommonKafkaConsumerConfigUtil;
 import com.merfonteen.kafkaEvents.PostCreatedEvent;
 import com.merfonteen.kafkaEvents.PostRemovedEvent;
+import com.merfonteen.kafkaEvents.PostUpdatedEvent;
+import com.merfonteen.kafkaEvents.SubscriptionCreatedEvent;
+import com.merfonteen.kafkaEvents.SubscriptionRemovedEvent;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.context.annotation.Bean;
@@ -32,6 +35,18 @@ public class KafkaConsumerConfig {
         return getConfigUtil().containerFactory(PostCreatedEvent.class, ContainerProperties.AckMode.MANUAL_IMMEDIATE, 3);
     }
 
+    // ---------- post-updated-event ----------
+
+    @Bean
+    public ConsumerFactory<String, PostUpdatedEvent> postUpdatedConsumerFactory() {
+        return getConfigUtil().consumerFactory(PostUpdatedEvent.class);
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, PostUpdatedEvent> postUpdatedContainerFactory() {
+        return getConfigUtil().containerFactory(PostUpdatedEvent.class, ContainerProperties.AckMode.MANUAL_IMMEDIATE, 3);
+    }
+
     // ---------- post-removed-event ----------
 
     @Bean
@@ -43,4 +58,28 @@ public class KafkaConsumerConfig {
     public ConcurrentKafkaListenerContainerFactory<String, PostRemovedEvent> postRemovedContainerFactory() {
         return getConfigUtil().containerFactory(PostRemovedEvent.class, ContainerProperties.AckMode.MANUAL_IMMEDIATE, 3);
     }
+
+    // ---------- subscription-created-event ----------
+
+    @Bean
+    public ConsumerFactory<String, SubscriptionCreatedEvent> subscriptionCreatedConsumerFactory() {
+        return getConfigUtil().consumerFactory(SubscriptionCreatedEvent.class);
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, SubscriptionCreatedEvent> subscriptionCreatedContainerFactory() {
+        return getConfigUtil().containerFactory(SubscriptionCreatedEvent.class, ContainerProperties.AckMode.MANUAL_IMMEDIATE, 3);
+    }
+
+    // ---------- subscription-removed-event ----------
+
+    @Bean
+    public ConsumerFactory<String, SubscriptionRemovedEvent> subscriptionRemovedConsumerFactory() {
+        return getConfigUtil().consumerFactory(SubscriptionRemovedEvent.class);
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, SubscriptionRemovedEvent> subscriptionRemovedContainerFactory() {
+        return getConfigUtil().containerFactory(SubscriptionRemovedEvent.class, ContainerProperties.AckMode.MANUAL_IMMEDIATE, 3);
+    }
 }
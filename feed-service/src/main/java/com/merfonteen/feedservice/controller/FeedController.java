@@ -1,7 +1,10 @@
 package com.merfonteen.feedservice.controller;
 
 import com.merfonteen.feedservice.dto.FeedPageResponse;
+import com.merfonteen.feedservice.dto.FeedScrollRequest;
 import com.merfonteen.feedservice.dto.FeedSearchRequest;
+import com.merfonteen.feedservice.dto.FeedSliceResponse;
+import com.merfonteen.feedservice.dto.HydratedFeedSliceResponse;
 import com.merfonteen.feedservice.dto.SubscriptionDto;
 import com.merfonteen.feedservice.service.FeedService;
 import com.merfonteen.feedservice.service.SubscriptionService;
@@ -13,6 +16,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.net.URI;
@@ -32,11 +36,29 @@ public class FeedController {
         return ResponseEntity.ok(feedService.getMyFeed(currentUserId, feedSearchRequest));
     }
 
+    @GetMapping("/scroll")
+    public ResponseEntity<FeedSliceResponse> scrollMyFeed(@RequestHeader("X-User-Id") Long currentUserId,
+                                                          FeedScrollRequest feedScrollRequest) {
+        return ResponseEntity.ok(feedService.scrollMyFeed(currentUserId, feedScrollRequest));
+    }
+
+    @GetMapping("/scroll/hydrated")
+    public ResponseEntity<HydratedFeedSliceResponse> scrollMyHydratedFeed(@RequestHeader("X-User-Id") Long currentUserId,
+                                                                          FeedScrollRequest feedScrollRequest) {
+        return ResponseEntity.ok(feedService.scrollMyHydratedFeed(currentUserId, feedScrollRequest));
+    }
+
     @GetMapping("/subscriptions")
     public ResponseEntity<List<SubscriptionDto>> getMySubscriptions(@RequestHeader("X-User-Id") Long currentUserId) {
         return ResponseEntity.ok(subscriptionService.getMySubscriptions(currentUserId));
     }
 
+    @GetMapping("/subscriptions/all")
+    public ResponseEntity<List<SubscriptionDto>> getSubscriptionsAfter(@RequestParam(value = "afterId", defaultValue = "0") Long afterId,
+                                                                       @RequestParam(value = "limit", defaultValue = "1000") int limit) {
+        return ResponseEntity.ok(subscriptionService.getSubscriptionsAfter(afterId, limit));
+    }
+
     @GetMapping("/subscribers")
     public ResponseEntity<List<SubscriptionDto>> getMySubscribers(@RequestHeader("X-User-Id") Long currentUserId) {
         return ResponseEntity.ok(subscriptionService.getMySubscribers(currentUserId));
@@ -14,7 +14,6 @@ import java.time.Instant;
 @AllArgsConstructor
 @NoArgsConstructor
 public class FeedDto implements Serializable {
-    private Long id;
     @JsonProperty("user_id")
     private Long userId;
     @JsonProperty("post_id")
@@ -0,0 +1,16 @@
+package com.merfonteen.feedservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class FeedScrollRequest {
+    @Builder.Default
+    private int limit = 10;
+    private String cursor;
+}
@@ -0,0 +1,22 @@
+package com.merfonteen.feedservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class FeedSliceResponse implements Serializable {
+    private List<FeedDto> feeds;
+    @JsonProperty("next_cursor")
+    private String nextCursor;
+    @JsonProperty("has_next")
+    private Boolean hasNext;
+}
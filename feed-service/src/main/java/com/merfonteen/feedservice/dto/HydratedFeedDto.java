@@ -0,0 +1,31 @@
+package com.merfonteen.feedservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.List;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class HydratedFeedDto implements Serializable {
+    @JsonProperty("post_id")
+    private Long postId;
+    @JsonProperty("author_id")
+    private Long authorId;
+    private String content;
+    @JsonProperty("media_urls")
+    private List<String> mediaUrls;
+    @JsonProperty("like_count")
+    private Long likeCount;
+    @JsonProperty("comment_count")
+    private Long commentCount;
+    @JsonProperty("created_at")
+    private Instant createdAt;
+}
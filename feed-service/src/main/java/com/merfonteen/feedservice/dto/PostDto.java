@@ -0,0 +1,28 @@
+package com.merfonteen.feedservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.List;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostDto implements Serializable {
+    private Long id;
+    @JsonProperty("author_id")
+    private Long authorId;
+    private String content;
+    @JsonProperty("media_urls")
+    private List<String> mediaUrls;
+    @JsonProperty("created_at")
+    private Instant createdAt;
+    @JsonProperty("updated_at")
+    private Instant updatedAt;
+}
@@ -0,0 +1,17 @@
+package com.merfonteen.feedservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserPostsDto implements Serializable {
+    private List<PostDto> posts;
+}
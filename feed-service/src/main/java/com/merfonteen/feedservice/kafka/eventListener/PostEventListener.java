@@ -3,6 +3,7 @@ package com.merfonteen.feedservice.kafka.eventListener;
 import com.merfonteen.feedservice.service.FeedService;
 import com.merfonteen.kafkaEvents.PostCreatedEvent;
 import com.merfonteen.kafkaEvents.PostRemovedEvent;
+import com.merfonteen.kafkaEvents.PostUpdatedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
@@ -26,6 +27,17 @@ public class PostEventListener {
         ack.acknowledge();
     }
 
+    @KafkaListener(
+            topics = "${topic.post-updated}",
+            groupId = "feed-group",
+            containerFactory = "postUpdatedContainerFactory"
+    )
+    public void handlePostUpdated(PostUpdatedEvent event, Acknowledgment ack) {
+        log.info("Received post-updated-event: {}", event);
+        feedService.refreshPostContent(event);
+        ack.acknowledge();
+    }
+
     @KafkaListener(
             topics = "${topic.post-removed}",
             groupId = "feed-group",
@@ -0,0 +1,39 @@
+package com.merfonteen.feedservice.kafka.eventListener;
+
+import com.merfonteen.feedservice.service.FeedService;
+import com.merfonteen.kafkaEvents.SubscriptionCreatedEvent;
+import com.merfonteen.kafkaEvents.SubscriptionRemovedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SubscriptionEventListener {
+    private final FeedService feedService;
+
+    @KafkaListener(
+            topics = "${topic.subscription-created}",
+            groupId = "feed-group",
+            containerFactory = "subscriptionCreatedContainerFactory"
+    )
+    public void handleSubscriptionCreated(SubscriptionCreatedEvent event, Acknowledgment ack) {
+        log.info("Received subscription-created-event: {}", event);
+        feedService.backfillFollowedAuthor(event);
+        ack.acknowledge();
+    }
+
+    @KafkaListener(
+            topics = "${topic.subscription-removed}",
+            groupId = "feed-group",
+            containerFactory = "subscriptionRemovedContainerFactory"
+    )
+    public void handleSubscriptionRemoved(SubscriptionRemovedEvent event, Acknowledgment ack) {
+        log.info("Received subscription-removed-event: {}", event);
+        feedService.removeUnfollowedAuthor(event);
+        ack.acknowledge();
+    }
+}
@@ -2,13 +2,11 @@ package com.merfonteen.feedservice.kafka.eventProducer;
 
 import com.merfonteen.kafkaEvents.SubscriptionCreatedEvent;
 import com.merfonteen.kafkaEvents.SubscriptionRemovedEvent;
+import com.merfonteen.outbox.OutboxMessage;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
-@Slf4j
 @RequiredArgsConstructor
 @Component
 public class SubscriptionEventProducer {
@@ -19,15 +17,11 @@ public class SubscriptionEventProducer {
     @Value("${topic.subscription-removed}")
     private String subscriptionRemovedTopic;
 
-    private final KafkaTemplate<String, Object> kafkaTemplate;
-
-    public void sendSubscriptionCreatedEvent(SubscriptionCreatedEvent event) {
-        kafkaTemplate.send(subscriptionCreatedTopic, event.getSubscriptionId().toString(), event);
-        log.info("SubscriptionCreatedEvent sent to topic '{}': {}", subscriptionCreatedTopic, event);
+    public OutboxMessage buildSubscriptionCreatedMessage(SubscriptionCreatedEvent event) {
+        return new OutboxMessage(subscriptionCreatedTopic, event.getSubscriptionId().toString(), event);
     }
 
-    public void sendSubscriptionRemovedEvent(SubscriptionRemovedEvent event) {
-        kafkaTemplate.send(subscriptionRemovedTopic, event.getTargetUserId().toString(), event);
-        log.info("SubscriptionRemovedEvent sent to topic '{}': {}", subscriptionRemovedTopic, event);
+    public OutboxMessage buildSubscriptionRemovedMessage(SubscriptionRemovedEvent event) {
+        return new OutboxMessage(subscriptionRemovedTopic, event.getTargetUserId().toString(), event);
     }
 }
@@ -3,6 +3,11 @@ package com.merfonteen.feedservice.mapper;
 import com.merfonteen.feedservice.dto.FeedDto;
 import com.merfonteen.feedservice.dto.FeedPageResponse;
 import com.merfonteen.feedservice.dto.FeedSearchRequest;
+import com.merfonteen.feedservice.dto.FeedSliceResponse;
+import com.merfonteen.feedservice.dto.HydratedFeedDto;
+import com.merfonteen.feedservice.dto.HydratedFeedSliceResponse;
+import com.merfonteen.feedservice.dto.PostDto;
+import com.merfonteen.feedservice.model.CelebrityPost;
 import com.merfonteen.feedservice.model.Feed;
 import org.mapstruct.Mapper;
 import org.springframework.data.domain.Page;
@@ -17,6 +22,15 @@ public interface FeedMapper {
 
     List<FeedDto> toListDtos(List<Feed> feeds);
 
+    default Feed toFeed(CelebrityPost celebrityPost, Long userId) {
+        return Feed.builder()
+                .userId(userId)
+                .postId(celebrityPost.getPostId())
+                .authorId(celebrityPost.getAuthorId())
+                .createdAt(celebrityPost.getCreatedAt())
+                .build();
+    }
+
     default PageRequest buildPageRequest(FeedSearchRequest request) {
         return PageRequest.of(request.getPage(), request.getSize(), Sort.by(Sort.Direction.DESC, "createdAt"));
     }
@@ -30,4 +44,32 @@ public interface FeedMapper {
                 .isLastPage(feedPage.isLast())
                 .build();
     }
+
+    default FeedSliceResponse buildFeedSliceResponse(List<FeedDto> feeds, String nextCursor) {
+        return FeedSliceResponse.builder()
+                .feeds(feeds)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .build();
+    }
+
+    default HydratedFeedDto toHydratedDto(FeedDto feed, PostDto post, Long likeCount, Long commentCount) {
+        return HydratedFeedDto.builder()
+                .postId(feed.getPostId())
+                .authorId(post.getAuthorId())
+                .content(post.getContent())
+                .mediaUrls(post.getMediaUrls())
+                .likeCount(likeCount)
+                .commentCount(commentCount)
+                .createdAt(feed.getCreatedAt())
+                .build();
+    }
+
+    default HydratedFeedSliceResponse buildHydratedFeedSliceResponse(List<HydratedFeedDto> feeds, String nextCursor) {
+        return HydratedFeedSliceResponse.builder()
+                .feeds(feeds)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .build();
+    }
 }
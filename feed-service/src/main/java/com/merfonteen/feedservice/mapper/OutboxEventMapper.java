@@ -7,8 +7,6 @@ import com.merfonteen.feedservice.model.enums.OutboxEventType;
 import com.merfonteen.kafkaEvents.SubscriptionCreatedEvent;
 import com.merfonteen.kafkaEvents.SubscriptionRemovedEvent;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
 @RequiredArgsConstructor
@@ -39,10 +37,6 @@ public class OutboxEventMapper {
         }
     }
 
-    public PageRequest buildPageRequest(int page, int size) {
-        return PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-    }
-
     private String writeValueAsString(Subscription subscription,
                                       Long currentUserId,
                                       Long targetUserId,
@@ -59,7 +53,7 @@ public class OutboxEventMapper {
             case SUBSCRIPTION_REMOVED -> {
                 try {
                     return objectMapper.writeValueAsString(
-                            new SubscriptionRemovedEvent(targetUserId));
+                            new SubscriptionRemovedEvent(targetUserId, currentUserId));
                 } catch (JsonProcessingException e) {
                     throw new RuntimeException(e);
                 }
@@ -0,0 +1,46 @@
+package com.merfonteen.feedservice.model;
+
+import com.merfonteen.feedservice.model.enums.FanOutJobStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "fan_out_jobs", schema = "feed_service")
+public class FanOutJob {
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Column(name = "author_id", nullable = false)
+    private Long authorId;
+
+    @Column(name = "post_created_at", nullable = false)
+    private Instant postCreatedAt;
+
+    @Column(name = "last_follower_id", nullable = false)
+    private long lastFollowerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private FanOutJobStatus status;
+
+    @Builder.Default
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt = Instant.now();
+}
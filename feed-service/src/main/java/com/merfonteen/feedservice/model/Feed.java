@@ -14,7 +14,7 @@ import java.util.Objects;
 @Entity
 @Table(name = "feeds",
         schema = "feed_service",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "post_id"}))
+        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "post_id", "created_at"}))
 public class Feed {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -26,6 +26,9 @@ public class Feed {
     @Column(name = "post_id", nullable = false)
     private Long postId;
 
+    @Column(name = "author_id")
+    private Long authorId;
+
     @Column(name = "created_at", nullable = false)
     private Instant createdAt;
 
@@ -0,0 +1,6 @@
+package com.merfonteen.feedservice.model.cursors;
+
+import java.time.Instant;
+
+public record FeedCursor(Instant createdAt, long postId) {
+}
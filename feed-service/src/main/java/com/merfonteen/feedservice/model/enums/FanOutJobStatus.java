@@ -0,0 +1,5 @@
+package com.merfonteen.feedservice.model.enums;
+
+public enum FanOutJobStatus {
+    IN_PROGRESS, COMPLETED
+}
@@ -0,0 +1,64 @@
+package com.merfonteen.feedservice.repository;
+
+import com.merfonteen.feedservice.model.CelebrityPost;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+@Repository
+public interface CelebrityPostRepository extends JpaRepository<CelebrityPost, Long> {
+
+    @Query("""
+            SELECT cp FROM CelebrityPost cp
+            WHERE cp.authorId IN (SELECT s.followeeId FROM Subscription s WHERE s.followerId = :followerId)
+            """)
+    Page<CelebrityPost> findAllFollowedByUserId(@Param("followerId") Long followerId, Pageable pageable);
+
+    @Query("""
+            SELECT cp FROM CelebrityPost cp
+            WHERE cp.authorId IN (SELECT s.followeeId FROM Subscription s WHERE s.followerId = :followerId)
+            ORDER BY cp.createdAt DESC, cp.postId DESC
+            """)
+    Slice<CelebrityPost> findLatestFollowedByUserId(@Param("followerId") Long followerId, Pageable pageable);
+
+    @Query("""
+            SELECT cp FROM CelebrityPost cp
+            WHERE cp.authorId IN (SELECT s.followeeId FROM Subscription s WHERE s.followerId = :followerId)
+            AND (cp.createdAt < :createdAt OR (cp.createdAt = :createdAt AND cp.postId < :postId))
+            ORDER BY cp.createdAt DESC, cp.postId DESC
+            """)
+    Slice<CelebrityPost> findFollowedByUserIdAfterCursor(@Param("followerId") Long followerId,
+                                                         @Param("createdAt") Instant createdAt,
+                                                         @Param("postId") Long postId,
+                                                         Pageable pageable);
+
+    int deleteAllByPostId(Long postId);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO celebrity_posts (post_id, author_id, created_at)
+            VALUES (:postId, :authorId, :createdAt)
+            ON CONFLICT (post_id) DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("postId") Long postId,
+                       @Param("authorId") Long authorId,
+                       @Param("createdAt") Instant createdAt);
+
+    @Modifying
+    @Query(value = """
+            WITH victim AS (
+                        SELECT id FROM celebrity_posts WHERE created_at < :date ORDER BY created_at LIMIT :batchSize
+                        )
+                        DELETE FROM celebrity_posts cp USING victim v WHERE cp.id = v.id
+            """, nativeQuery = true)
+    int deleteCelebrityPostsBelowDate(@Param("date") Instant date, @Param("batchSize") int batchSize);
+}
@@ -0,0 +1,34 @@
+package com.merfonteen.feedservice.repository;
+
+import com.merfonteen.feedservice.model.FanOutJob;
+import com.merfonteen.feedservice.model.enums.FanOutJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface FanOutJobRepository extends JpaRepository<FanOutJob, Long> {
+
+    List<FanOutJob> findAllByStatusAndUpdatedAtBefore(FanOutJobStatus status, Instant updatedAt);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE fan_out_jobs SET updated_at = :claimedAt
+            WHERE post_id = :postId AND status = 'IN_PROGRESS' AND updated_at < :stalledBefore
+            """, nativeQuery = true)
+    int claimStalledJob(@Param("postId") Long postId,
+                        @Param("stalledBefore") Instant stalledBefore,
+                        @Param("claimedAt") Instant claimedAt);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM fan_out_jobs WHERE status = 'COMPLETED' AND updated_at < :date", nativeQuery = true)
+    int deleteCompletedJobsBelowDate(@Param("date") Instant date);
+}
@@ -1,28 +1,115 @@
 package com.merfonteen.feedservice.repository;
 
 import com.merfonteen.feedservice.model.Feed;
-import io.lettuce.core.dynamic.annotation.Param;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.List;
 
 @Repository
 public interface FeedRepository extends JpaRepository<Feed, Long> {
     Page<Feed> findAllByUserId(Long userId, Pageable pageable);
 
+    @Query("SELECT f FROM Feed f WHERE f.userId = :userId ORDER BY f.createdAt DESC, f.postId DESC")
+    Slice<Feed> findLatestByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("""
+            SELECT f FROM Feed f
+            WHERE f.userId = :userId
+            AND (f.createdAt < :createdAt OR (f.createdAt = :createdAt AND f.postId < :postId))
+            ORDER BY f.createdAt DESC, f.postId DESC
+            """)
+    Slice<Feed> findByUserIdAfterCursor(@Param("userId") Long userId,
+                                        @Param("createdAt") Instant createdAt,
+                                        @Param("postId") Long postId,
+                                        Pageable pageable);
+
+    @Query("SELECT f.userId FROM Feed f WHERE f.postId = :postId")
+    List<Long> findAllUserIdsByPostId(@Param("postId") Long postId);
+
     int deleteAllByPostId(Long postId);
 
     @Modifying
     @Query(value = """
-            WITH victim AS (
-                        SELECT id FROM feeds WHERE created_at < :date ORDER BY created_at LIMIT :batchSize 
-                        )
-                        DELETE FROM feeds f USING victim v WHERE f.id = v.id
+            INSERT INTO feeds (user_id, post_id, author_id, created_at)
+            SELECT u.user_id, :postId, :authorId, :createdAt FROM unnest(:userIds) AS u(user_id)
+            ON CONFLICT (user_id, post_id, created_at) DO NOTHING
+            """, nativeQuery = true)
+    int insertIgnoringDuplicates(@Param("userIds") long[] userIds,
+                                 @Param("postId") Long postId,
+                                 @Param("authorId") Long authorId,
+                                 @Param("createdAt") Instant createdAt);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO feeds (user_id, post_id, author_id, created_at)
+            SELECT :userId, p.post_id, :authorId, p.created_at FROM unnest(:postIds, :createdAts) AS p(post_id, created_at)
+            WHERE p.created_at >= :since
+            ON CONFLICT (user_id, post_id, created_at) DO NOTHING
+            """, nativeQuery = true)
+    int insertAuthorPosts(@Param("userId") Long userId,
+                          @Param("authorId") Long authorId,
+                          @Param("postIds") long[] postIds,
+                          @Param("createdAts") Instant[] createdAts,
+                          @Param("since") Instant since);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Feed f WHERE f.userId = :userId AND f.authorId = :authorId")
+    int deleteAllByUserIdAndAuthorId(@Param("userId") Long userId, @Param("authorId") Long authorId);
+
+    @Query(value = "SELECT DISTINCT f.post_id FROM feeds f WHERE f.author_id IS NULL LIMIT :limit", nativeQuery = true)
+    List<Long> findPostIdsWithoutAuthor(@Param("limit") int limit);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE feeds f SET author_id = a.author_id
+            FROM unnest(:postIds, :authorIds) AS a(post_id, author_id)
+            WHERE f.post_id = a.post_id AND f.author_id IS NULL
+            """, nativeQuery = true)
+    int fillAuthorIds(@Param("postIds") long[] postIds, @Param("authorIds") long[] authorIds);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM feeds f WHERE f.post_id = ANY(:postIds) AND f.author_id IS NULL", nativeQuery = true)
+    int deleteWithoutAuthorByPostIds(@Param("postIds") long[] postIds);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            DELETE FROM feeds f
+            USING (
+                SELECT o.id, o.created_at FROM unnest(:userIds) AS u(user_id)
+                CROSS JOIN LATERAL (
+                    SELECT id, created_at FROM feeds
+                    WHERE user_id = u.user_id
+                    ORDER BY created_at DESC, post_id DESC
+                    OFFSET :maxLength
+                ) o
+            ) victim
+            WHERE f.id = victim.id AND f.created_at = victim.created_at
+            """, nativeQuery = true)
+    int trimTimelines(@Param("userIds") long[] userIds, @Param("maxLength") int maxLength);
+
+    @Query(value = """
+            SELECT user_id FROM feeds
+            WHERE user_id > :afterUserId
+            GROUP BY user_id
+            HAVING count(*) > :threshold
+            ORDER BY user_id
+            LIMIT :limit
             """, nativeQuery = true)
-    int deleteFeedsBelowDate(@Param("date") Instant date, @Param("batchSize") int batchSize);
+    List<Long> findUserIdsWithTimelineLongerThan(@Param("afterUserId") long afterUserId,
+                                                 @Param("threshold") int threshold,
+                                                 @Param("limit") int limit);
 }
@@ -1,6 +1,7 @@
 package com.merfonteen.feedservice.repository;
 
 import com.merfonteen.feedservice.model.Subscription;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -12,4 +13,6 @@ public interface SubscriptionRepository extends JpaRepository<Subscription, Long
     Optional<Subscription> findSubscriptionByFollowerIdAndFolloweeId(Long followerId, Long followeeId);
     List<Subscription> findAllByFollowerId(Long followerId);
     List<Subscription> findAllByFolloweeId(Long followeeId);
+    long countByFolloweeId(Long followeeId);
+    List<Subscription> findAllByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
 }
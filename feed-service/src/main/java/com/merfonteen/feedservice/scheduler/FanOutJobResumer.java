@@ -0,0 +1,42 @@
+package com.merfonteen.feedservice.scheduler;
+
+import com.merfonteen.feedservice.model.FanOutJob;
+import com.merfonteen.feedservice.model.enums.FanOutJobStatus;
+import com.merfonteen.feedservice.repository.FanOutJobRepository;
+import com.merfonteen.feedservice.service.FeedFanOutCoordinator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Picks up fan-out jobs whose instance stopped heartbeating. A job is claimed by moving its {@code updated_at}
+ * forward only while it is still stalled, so exactly one instance resumes it; the run then keeps it fresh after every wave.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class FanOutJobResumer {
+    private final FanOutJobRepository fanOutJobRepository;
+    private final FeedFanOutCoordinator feedFanOutCoordinator;
+
+    @Scheduled(fixedDelay = 60_000)
+    public void resumeStalledJobs() {
+        Instant stalledBefore = Instant.now().minus(5, ChronoUnit.MINUTES);
+
+        for (FanOutJob job : fanOutJobRepository.findAllByStatusAndUpdatedAtBefore(
+                FanOutJobStatus.IN_PROGRESS, stalledBefore)) {
+            if (fanOutJobRepository.claimStalledJob(job.getPostId(), stalledBefore, Instant.now()) == 0) {
+                continue;
+            }
+            try {
+                feedFanOutCoordinator.resume(job);
+            } catch (Exception e) {
+                log.error("Failed to resume fan-out of post '{}': {}", job.getPostId(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.merfonteen.feedservice.scheduler;
+
+import com.merfonteen.feedservice.client.PostClient;
+import com.merfonteen.feedservice.dto.PostDto;
+import com.merfonteen.feedservice.repository.FeedRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Fills author_id on feed rows written before it existed, looking the authors up in post-service.
+ * Rows whose post no longer exists are deleted. Once no such rows are left, each run is one index probe.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class FeedAuthorBackfiller {
+    private static final int BATCH_SIZE = 100;
+
+    private final PostClient postClient;
+    private final FeedRepository feedRepository;
+
+    @Scheduled(fixedDelay = 60_000)
+    public void backfillAuthorIds() {
+        List<Long> postIds;
+        while (!(postIds = feedRepository.findPostIdsWithoutAuthor(BATCH_SIZE)).isEmpty()) {
+            try {
+                backfillBatch(postIds);
+            } catch (Exception e) {
+                log.error("Failed to backfill feed author ids, will retry: {}", e.getMessage());
+                return;
+            }
+        }
+    }
+
+    private void backfillBatch(List<Long> postIds) {
+        Map<Long, Long> authorIdsByPostId = postClient.getPostsByIds(postIds).stream()
+                .collect(Collectors.toMap(PostDto::getId, PostDto::getAuthorId, (first, second) -> first));
+
+        long[] foundPostIds = authorIdsByPostId.keySet().stream().mapToLong(Long::longValue).toArray();
+        long[] authorIds = authorIdsByPostId.values().stream().mapToLong(Long::longValue).toArray();
+        long[] missingPostIds = postIds.stream()
+                .filter(postId -> !authorIdsByPostId.containsKey(postId))
+                .mapToLong(Long::longValue)
+                .toArray();
+
+        int filled = feedRepository.fillAuthorIds(foundPostIds, authorIds);
+        int deleted = missingPostIds.length == 0 ? 0 : feedRepository.deleteWithoutAuthorByPostIds(missingPostIds);
+        log.info("Backfilled author_id on {} feed rows, deleted {} rows of missing posts", filled, deleted);
+    }
+}
@@ -1,31 +1,93 @@
 package com.merfonteen.feedservice.scheduler;
 
+import com.merfonteen.feedservice.repository.FanOutJobRepository;
+import com.merfonteen.feedservice.repository.FeedRepository;
+import com.merfonteen.feedservice.service.FeedPartitionManager;
 import com.merfonteen.feedservice.service.FeedService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.function.IntSupplier;
 
 @Slf4j
 @RequiredArgsConstructor
 @Component
 public class OutdatedFeedCleaner {
+    private static final int BATCH_SIZE = 5_000;
+    private static final int RETENTION_DAYS = 7;
+    private static final int TRIM_BATCH_SIZE = 1_000;
+
     private final FeedService feedService;
+    private final FeedRepository feedRepository;
+    private final FanOutJobRepository fanOutJobRepository;
+    private final FeedPartitionManager feedPartitionManager;
+
+    @Value("${feed.partitions.premake-days}")
+    private int premakeDays;
+
+    @Value("${feed.timeline.max-length}")
+    private int maxTimelineLength;
+
+    @Value("${feed.timeline.trim-slack}")
+    private int trimSlack;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 0 * * * ?")
+    public void createUpcomingPartitions() {
+        feedPartitionManager.createPartitions(feedPartitionManager.currentDate(), premakeDays);
+    }
 
     @Scheduled(cron = "0 0 2 * * ?")
     public void cleanOldFeeds() {
-        Instant nowMinusWeek = Instant.now().minus(7, ChronoUnit.DAYS);
-        final int batchSize = 5_000;
+        Instant nowMinusWeek = Instant.now().minus(RETENTION_DAYS, ChronoUnit.DAYS);
+
+        LocalDate cutoff = feedPartitionManager.currentDate().minusDays(RETENTION_DAYS);
+        int feedPartitions = feedPartitionManager.dropPartitionsBefore(cutoff);
+        int defaultPartitionFeeds = feedPartitionManager.purgeDefaultPartitionBefore(cutoff);
+        int celebrityPosts = deleteInBatches(() -> feedService.deleteCelebrityPostsBelowDate(nowMinusWeek, BATCH_SIZE));
+        int fanOutJobs = fanOutJobRepository.deleteCompletedJobsBelowDate(nowMinusWeek);
 
+        log.info("Feed cleanup: dropped {} feed partitions, deleted {} default partition feeds, {} celebrity posts " +
+                        "and {} fan-out jobs older than {}",
+                feedPartitions, defaultPartitionFeeds, celebrityPosts, fanOutJobs, nowMinusWeek);
+    }
+
+    @Scheduled(fixedDelayString = "${feed.timeline.trim-interval}")
+    public void trimOversizedTimelines() {
+        int timelines = 0, trimmed = 0;
+        long afterUserId = 0;
+        List<Long> userIds;
+        do {
+            userIds = feedRepository.findUserIdsWithTimelineLongerThan(
+                    afterUserId, maxTimelineLength + trimSlack, TRIM_BATCH_SIZE);
+            if (!userIds.isEmpty()) {
+                trimmed += feedRepository.trimTimelines(
+                        userIds.stream().mapToLong(Long::longValue).toArray(), maxTimelineLength);
+                timelines += userIds.size();
+                afterUserId = userIds.get(userIds.size() - 1);
+            }
+        } while (userIds.size() == TRIM_BATCH_SIZE);
+
+        if (timelines > 0) {
+            log.info("Trimmed {} feed rows from {} timelines longer than {}", trimmed, timelines, maxTimelineLength + trimSlack);
+        }
+    }
+
+    private int deleteInBatches(IntSupplier batchDelete) {
         int total = 0, deleted;
         do {
-            deleted = feedService.deleteFeedsBelowDate(nowMinusWeek, batchSize);
+            deleted = batchDelete.getAsInt();
             total += deleted;
-        } while (deleted == batchSize);
-
-        log.info("Feed cleanup: deleted {} rows older than {}", total, nowMinusWeek);
+        } while (deleted == BATCH_SIZE);
+        return total;
     }
 }
@@ -0,0 +1,126 @@
+package com.merfonteen.feedservice.service;
+
+import com.merfonteen.feedservice.model.FanOutJob;
+import com.merfonteen.feedservice.model.enums.FanOutJobStatus;
+import com.merfonteen.feedservice.repository.FanOutJobRepository;
+import com.merfonteen.kafkaEvents.PostCreatedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class FeedFanOutCoordinator {
+    private static final String FOLLOWER_IDS_QUERY = """
+            SELECT follower_id FROM subscriptions
+            WHERE followee_id = ? AND follower_id > ?
+            ORDER BY follower_id
+            LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FeedFanOutWriter feedFanOutWriter;
+    private final FeedTimelineStore feedTimelineStore;
+    private final TransactionTemplate transactionTemplate;
+    private final FanOutJobRepository fanOutJobRepository;
+    private final ExecutorService fanOutExecutor;
+
+    @Value("${feed.fan-out.parallelism}")
+    private int parallelism;
+
+    @Value("${feed.fan-out.range-size}")
+    private int rangeSize;
+
+    public void fanOut(PostCreatedEvent event) {
+        FanOutJob job = fanOutJobRepository.findById(event.getPostId())
+                .orElseGet(() -> fanOutJobRepository.save(FanOutJob.builder()
+                        .postId(event.getPostId())
+                        .authorId(event.getAuthorId())
+                        .postCreatedAt(event.getCreatedAt())
+                        .lastFollowerId(0L)
+                        .status(FanOutJobStatus.IN_PROGRESS)
+                        .build()));
+
+        if (job.getStatus() == FanOutJobStatus.COMPLETED) {
+            log.info("Fan-out of post '{}' already completed, skipping", job.getPostId());
+            return;
+        }
+        run(job);
+    }
+
+    public void resume(FanOutJob job) {
+        log.info("Resuming fan-out of post '{}' after follower '{}'", job.getPostId(), job.getLastFollowerId());
+        run(job);
+    }
+
+    private void run(FanOutJob job) {
+        long startedAt = System.nanoTime();
+        long followers = 0;
+        long inserted = 0;
+        boolean exhausted = false;
+
+        while (!exhausted) {
+            List<long[]> wave = new ArrayList<>(parallelism);
+            long lastFollowerId = job.getLastFollowerId();
+
+            while (wave.size() < parallelism && !exhausted) {
+                long[] range = readFollowerIds(job.getAuthorId(), lastFollowerId);
+                if (range.length > 0) {
+                    wave.add(range);
+                    lastFollowerId = range[range.length - 1];
+                    followers += range.length;
+                }
+                exhausted = range.length < rangeSize;
+            }
+
+            inserted += writeWave(job, wave);
+
+            job.setLastFollowerId(lastFollowerId);
+            job.setStatus(exhausted ? FanOutJobStatus.COMPLETED : FanOutJobStatus.IN_PROGRESS);
+            job.setUpdatedAt(Instant.now());
+            fanOutJobRepository.save(job);
+        }
+
+        log.info("Fan-out of post '{}' inserted {} feeds for {} followers in {} ms",
+                job.getPostId(), inserted, followers, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    private long writeWave(FanOutJob job, List<long[]> wave) {
+        List<CompletableFuture<Integer>> ranges = wave.stream()
+                .map(followerIds -> CompletableFuture.supplyAsync(() -> writeRange(job, followerIds), fanOutExecutor))
+                .toList();
+
+        CompletableFuture.allOf(ranges.toArray(CompletableFuture[]::new)).join();
+        return ranges.stream().mapToLong(CompletableFuture::join).sum();
+    }
+
+    private int writeRange(FanOutJob job, long[] followerIds) {
+        Integer inserted = transactionTemplate.execute(status ->
+                feedFanOutWriter.write(followerIds, job.getPostId(), job.getAuthorId(), job.getPostCreatedAt()));
+        feedTimelineStore.addPost(followerIds, job.getPostId(), job.getPostCreatedAt());
+        return inserted == null ? 0 : inserted;
+    }
+
+    private long[] readFollowerIds(Long authorId, long afterFollowerId) {
+        return jdbcTemplate.query(FOLLOWER_IDS_QUERY, rs -> {
+            long[] followerIds = new long[rangeSize];
+            int count = 0;
+            while (rs.next()) {
+                followerIds[count++] = rs.getLong(1);
+            }
+            return Arrays.copyOf(followerIds, count);
+        }, authorId, afterFollowerId, rangeSize);
+    }
+}
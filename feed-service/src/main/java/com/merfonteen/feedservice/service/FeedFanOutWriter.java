@@ -0,0 +1,43 @@
+package com.merfonteen.feedservice.service;
+
+import com.merfonteen.feedservice.repository.FeedRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class FeedFanOutWriter {
+    private static final int CHUNK_SIZE = 5_000;
+
+    private final FeedRepository feedRepository;
+
+    public int write(long[] userIds, Long postId, Long authorId, Instant createdAt) {
+        int inserted = 0;
+        long startedAt = System.nanoTime();
+
+        for (int from = 0; from < userIds.length; from += CHUNK_SIZE) {
+            long[] chunk = Arrays.copyOfRange(userIds, from, Math.min(from + CHUNK_SIZE, userIds.length));
+
+            long chunkStartedAt = System.nanoTime();
+            int chunkInserted = feedRepository.insertIgnoringDuplicates(chunk, postId, authorId, createdAt);
+            inserted += chunkInserted;
+
+            log.debug("Fan-out chunk for post '{}': {}/{} rows inserted in {} ms",
+                    postId, chunkInserted, chunk.length, elapsedMillis(chunkStartedAt));
+        }
+
+        log.debug("Fan-out of post '{}' inserted {} of {} feeds in {} ms",
+                postId, inserted, userIds.length, elapsedMillis(startedAt));
+        return inserted;
+    }
+
+    private long elapsedMillis(long startedAt) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    }
+}
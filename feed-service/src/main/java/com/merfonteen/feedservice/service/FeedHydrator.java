@@ -0,0 +1,73 @@
+package com.merfonteen.feedservice.service;
+
+import com.merfonteen.exceptions.ServiceUnavailableException;
+import com.merfonteen.feedservice.client.CommentClient;
+import com.merfonteen.feedservice.client.LikeClient;
+import com.merfonteen.feedservice.dto.FeedDto;
+import com.merfonteen.feedservice.dto.HydratedFeedDto;
+import com.merfonteen.feedservice.dto.PostDto;
+import com.merfonteen.feedservice.mapper.FeedMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class FeedHydrator {
+    private final FeedMapper feedMapper;
+    private final LikeClient likeClient;
+    private final CommentClient commentClient;
+    private final PostContentCache postContentCache;
+    private final ExecutorService hydrationExecutor;
+
+    public List<HydratedFeedDto> hydrate(List<FeedDto> feeds) {
+        if (feeds.isEmpty()) {
+            return List.of();
+        }
+        List<Long> postIds = feeds.stream().map(FeedDto::getPostId).distinct().toList();
+
+        CompletableFuture<Map<Long, PostDto>> posts =
+                CompletableFuture.supplyAsync(() -> postContentCache.getAll(postIds), hydrationExecutor);
+        CompletableFuture<Map<Long, Long>> likeCounts =
+                fetchCounts("like", () -> likeClient.getLikeCounts(postIds));
+        CompletableFuture<Map<Long, Long>> commentCounts =
+                fetchCounts("comment", () -> commentClient.getCommentCounts(postIds));
+
+        Map<Long, PostDto> postsById;
+        try {
+            postsById = posts.join();
+        } catch (CompletionException e) {
+            log.error("Failed to load posts {} for feed hydration", postIds, e.getCause());
+            throw new ServiceUnavailableException("Post service is temporarily unavailable");
+        }
+
+        List<HydratedFeedDto> hydrated = new ArrayList<>(feeds.size());
+        for (FeedDto feed : feeds) {
+            PostDto post = postsById.get(feed.getPostId());
+            if (post == null) {
+                continue;
+            }
+            hydrated.add(feedMapper.toHydratedDto(feed, post,
+                    likeCounts.join().get(feed.getPostId()),
+                    commentCounts.join().get(feed.getPostId())));
+        }
+        return hydrated;
+    }
+
+    private CompletableFuture<Map<Long, Long>> fetchCounts(String counter, Supplier<Map<Long, Long>> supplier) {
+        return CompletableFuture.supplyAsync(supplier, hydrationExecutor)
+                .exceptionally(e -> {
+                    log.warn("Failed to load {} counts for feed hydration: {}", counter, e.getMessage());
+                    return Map.of();
+                });
+    }
+}
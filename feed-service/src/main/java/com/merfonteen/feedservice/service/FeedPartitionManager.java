@@ -0,0 +1,77 @@
+package com.merfonteen.feedservice.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class FeedPartitionManager {
+    private static final String PARTITION_PREFIX = "feeds_p";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public LocalDate currentDate() {
+        return jdbcTemplate.queryForObject("SELECT current_date", LocalDate.class);
+    }
+
+    public int createPartitions(LocalDate from, int days) {
+        int created = 0;
+        for (int i = 0; i <= days; i++) {
+            LocalDate day = from.plusDays(i);
+            String partition = PARTITION_PREFIX + day.format(PARTITION_SUFFIX);
+            if (partitionExists(partition)) {
+                continue;
+            }
+            jdbcTemplate.execute(String.format(
+                    "CREATE TABLE IF NOT EXISTS feed_service.%s PARTITION OF feed_service.feeds FOR VALUES FROM ('%s') TO ('%s')",
+                    partition, day, day.plusDays(1)));
+            created++;
+        }
+        if (created > 0) {
+            log.info("Created {} feed partitions starting from {}", created, from);
+        }
+        return created;
+    }
+
+    public int dropPartitionsBefore(LocalDate cutoff) {
+        int dropped = 0;
+        for (String partition : findPartitions()) {
+            LocalDate day = LocalDate.parse(partition.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX);
+            if (!day.plusDays(1).isAfter(cutoff)) {
+                jdbcTemplate.execute("DROP TABLE IF EXISTS feed_service." + partition);
+                log.info("Dropped expired feed partition {}", partition);
+                dropped++;
+            }
+        }
+        return dropped;
+    }
+
+    public int purgeDefaultPartitionBefore(LocalDate cutoff) {
+        return jdbcTemplate.update("DELETE FROM feed_service.feeds_default WHERE created_at < ?", cutoff);
+    }
+
+    private boolean partitionExists(String partition) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT to_regclass(?) IS NOT NULL", Boolean.class, "feed_service." + partition));
+    }
+
+    private List<String> findPartitions() {
+        return jdbcTemplate.queryForList("""
+                SELECT c.relname
+                FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                JOIN pg_class p ON p.oid = i.inhparent
+                JOIN pg_namespace n ON n.oid = p.relnamespace
+                WHERE n.nspname = 'feed_service' AND p.relname = 'feeds' AND c.relname ~ '^feeds_p[0-9]{8}$'
+                ORDER BY c.relname
+                """, String.class);
+    }
+}
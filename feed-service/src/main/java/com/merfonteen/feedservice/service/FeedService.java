@@ -1,9 +1,15 @@
 package com.merfonteen.feedservice.service;
 
 import com.merfonteen.feedservice.dto.FeedPageResponse;
+import com.merfonteen.feedservice.dto.FeedScrollRequest;
 import com.merfonteen.feedservice.dto.FeedSearchRequest;
+import com.merfonteen.feedservice.dto.FeedSliceResponse;
+import com.merfonteen.feedservice.dto.HydratedFeedSliceResponse;
 import com.merfonteen.kafkaEvents.PostCreatedEvent;
 import com.merfonteen.kafkaEvents.PostRemovedEvent;
+import com.merfonteen.kafkaEvents.PostUpdatedEvent;
+import com.merfonteen.kafkaEvents.SubscriptionCreatedEvent;
+import com.merfonteen.kafkaEvents.SubscriptionRemovedEvent;
 
 import java.time.Instant;
 
@@ -11,9 +17,19 @@ public interface FeedService {
 
     FeedPageResponse getMyFeed(Long currentUserId, FeedSearchRequest request);
 
+    FeedSliceResponse scrollMyFeed(Long currentUserId, FeedScrollRequest request);
+
+    HydratedFeedSliceResponse scrollMyHydratedFeed(Long currentUserId, FeedScrollRequest request);
+
     void distributePostToSubscribers(PostCreatedEvent event);
 
+    void refreshPostContent(PostUpdatedEvent event);
+
     void deleteFeedsByPostId(PostRemovedEvent event);
 
-    int deleteFeedsBelowDate(Instant date, int batchSize);
+    void backfillFollowedAuthor(SubscriptionCreatedEvent event);
+
+    void removeUnfollowedAuthor(SubscriptionRemovedEvent event);
+
+    int deleteCelebrityPostsBelowDate(Instant date, int batchSize);
 }
@@ -0,0 +1,115 @@
+package com.merfonteen.feedservice.service;
+
+import com.merfonteen.feedservice.model.Feed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class FeedTimelineStore {
+    private static final String TIMELINE_KEY = "timeline:user:";
+    private static final String TIMELINE_LOADED_KEY = "timeline:loaded:user:";
+    private static final Duration TIMELINE_TTL = Duration.ofDays(7);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${feed.timeline.max-length}")
+    private int maxSize;
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public boolean isLoaded(Long userId) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(buildLoadedKey(userId)));
+    }
+
+    public Page<Feed> read(Long userId, Pageable pageable) {
+        String key = buildTimelineKey(userId);
+        long start = pageable.getOffset();
+
+        Set<ZSetOperations.TypedTuple<String>> entries = stringRedisTemplate.opsForZSet()
+                .reverseRangeWithScores(key, start, start + pageable.getPageSize() - 1);
+        Long total = stringRedisTemplate.opsForZSet().zCard(key);
+
+        List<Feed> feeds = entries == null ? List.of() : entries.stream()
+                .map(entry -> Feed.builder()
+                        .userId(userId)
+                        .postId(Long.valueOf(entry.getValue()))
+                        .createdAt(Instant.ofEpochMilli(entry.getScore().longValue()))
+                        .build())
+                .toList();
+
+        return new PageImpl<>(feeds, pageable, total == null ? 0 : total);
+    }
+
+    public void addPost(long[] userIds, Long postId, Instant createdAt) {
+        String member = String.valueOf(postId);
+        double score = createdAt.toEpochMilli();
+
+        pipelined(connection -> {
+            for (long userId : userIds) {
+                String key = buildTimelineKey(userId);
+                connection.zAdd(key, score, member);
+                connection.zRemRange(key, 0, -(maxSize + 1));
+                connection.expire(key, TIMELINE_TTL.toSeconds());
+            }
+        });
+    }
+
+    public void removePost(Collection<Long> userIds, Long postId) {
+        String member = String.valueOf(postId);
+        pipelined(connection -> userIds.forEach(userId -> connection.zRem(buildTimelineKey(userId), member)));
+    }
+
+    public void rebuild(Long userId, List<Feed> feeds) {
+        String key = buildTimelineKey(userId);
+
+        pipelined(connection -> {
+            for (Feed feed : feeds) {
+                connection.zAdd(key, feed.getCreatedAt().toEpochMilli(), String.valueOf(feed.getPostId()));
+            }
+            connection.zRemRange(key, 0, -(maxSize + 1));
+            connection.expire(key, TIMELINE_TTL.toSeconds());
+            connection.setEx(buildLoadedKey(userId), TIMELINE_TTL.toSeconds(), "1");
+        });
+        log.info("Rebuilt timeline for user '{}' from {} feeds", userId, feeds.size());
+    }
+
+    public void evict(Long userId) {
+        stringRedisTemplate.delete(List.of(buildTimelineKey(userId), buildLoadedKey(userId)));
+    }
+
+    private void pipelined(Consumer<StringRedisConnection> commands) {
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) (RedisConnection connection) -> {
+            commands.accept((StringRedisConnection) connection);
+            return null;
+        });
+    }
+
+    private String buildTimelineKey(long userId) {
+        return TIMELINE_KEY + userId;
+    }
+
+    private String buildLoadedKey(Long userId) {
+        return TIMELINE_LOADED_KEY + userId;
+    }
+}
@@ -6,59 +6,35 @@ import com.merfonteen.feedservice.model.OutboxEvent;
 import com.merfonteen.feedservice.model.Subscription;
 import com.merfonteen.feedservice.model.enums.OutboxEventType;
 import com.merfonteen.feedservice.repository.OutboxEventRepository;
-import jakarta.transaction.Transactional;
+import com.merfonteen.outbox.OutboxEventRouter;
+import com.merfonteen.outbox.OutboxMessage;
+import com.merfonteen.outbox.OutboxRecord;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
-@Slf4j
+import java.time.Instant;
+
 @RequiredArgsConstructor
 @Service
-public class OutboxService {
+public class OutboxService implements OutboxEventRouter {
     private final OutboxEventMapper mapper;
     private final SubscriptionEventProducer eventProducer;
     private final OutboxEventRepository outboxEventRepository;
 
-    @Transactional
-    public void publishOutboxEvents() {
-        PageRequest pageRequest = mapper.buildPageRequest(0, 100);
-        Page<OutboxEvent> outboxEvents;
-
-        do {
-            outboxEvents = outboxEventRepository.findAllBySentFalse(pageRequest);
-            process(outboxEvents);
-            pageRequest.next();
-        }
-        while (!outboxEvents.isEmpty());
-    }
-
-    public void process(Page<OutboxEvent> outboxEvents) {
-        for (OutboxEvent event : outboxEvents) {
-            try {
-                switch (event.getEventType()) {
-                    case SUBSCRIPTION_CREATED -> {
-                        eventProducer.sendSubscriptionCreatedEvent(
-                                mapper.mapSubscriptionCreatedEventFromJson(event.getPayload())
-                        );
-                    }
-                    case SUBSCRIPTION_REMOVED -> {
-                        eventProducer.sendSubscriptionRemovedEvent(
-                                mapper.mapSubscriptionRemovedEventFromJson(event.getPayload())
-                        );
-                    }
-                    default -> {
-                        log.warn("Unknown event type {}", event.getEventType());
-                        continue;
-                    }
-                }
-                event.setSent(true);
-            } catch (Exception e) {
-                log.error("Failed to send Kafka event for outboxEventId={}: {}", event.getId(), e.getMessage());
-            }
+    @Override
+    public OutboxMessage route(OutboxRecord record) {
+        OutboxEventType eventType;
+        try {
+            eventType = OutboxEventType.valueOf(record.eventType());
+        } catch (IllegalArgumentException e) {
+            return null;
         }
-        outboxEventRepository.saveAll(outboxEvents.stream().filter(OutboxEvent::isSent).toList());
+        return switch (eventType) {
+            case SUBSCRIPTION_CREATED -> eventProducer.buildSubscriptionCreatedMessage(
+                    mapper.mapSubscriptionCreatedEventFromJson(record.payload()));
+            case SUBSCRIPTION_REMOVED -> eventProducer.buildSubscriptionRemovedMessage(
+                    mapper.mapSubscriptionRemovedEventFromJson(record.payload()));
+        };
     }
 
     public OutboxEvent create(Subscription subscription, Long currentUserId, Long targetUserId, OutboxEventType type) {
@@ -68,7 +44,7 @@ public class OutboxService {
                 .eventType(type)
                 .payload(mapper.mapToJson(subscription, currentUserId, targetUserId, type))
                 .sent(false)
-                .createdAt(subscription.getCreatedAt())
+                .createdAt(Instant.now())
                 .build();
 
         return outboxEventRepository.save(outboxEvent);
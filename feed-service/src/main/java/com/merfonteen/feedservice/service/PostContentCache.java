@@ -0,0 +1,135 @@
+package com.merfonteen.feedservice.service;
+
+import com.merfonteen.feedservice.client.PostClient;
+import com.merfonteen.feedservice.dto.PostDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Two-level cache of post content for feed hydration: a short-lived map per instance in front of a shared Redis copy.
+ * Evicting a post deletes the Redis copy and broadcasts the id on a pub/sub channel, so every instance drops its local entry.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class PostContentCache {
+    private static final String POST_KEY = "feed:post:";
+
+    private final PostClient postClient;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Map<Long, LocalEntry> localCache = new ConcurrentHashMap<>();
+
+    @Value("${feed.hydration.local-ttl}")
+    private Duration localTtl;
+
+    @Value("${feed.hydration.local-max-size}")
+    private int localMaxSize;
+
+    @Value("${feed.hydration.redis-ttl}")
+    private Duration redisTtl;
+
+    @Value("${feed.hydration.eviction-channel}")
+    private String evictionChannel;
+
+    public Map<Long, PostDto> getAll(List<Long> postIds) {
+        Map<Long, PostDto> posts = new HashMap<>();
+        List<Long> localMisses = new ArrayList<>();
+        Instant now = Instant.now();
+
+        for (Long postId : postIds) {
+            LocalEntry entry = localCache.get(postId);
+            if (entry != null && entry.expiresAt().isAfter(now)) {
+                posts.put(postId, entry.post());
+            } else {
+                localMisses.add(postId);
+            }
+        }
+        if (localMisses.isEmpty()) {
+            return posts;
+        }
+
+        List<Object> cached = redisTemplate.opsForValue().multiGet(localMisses.stream().map(this::key).toList());
+        List<Long> redisMisses = new ArrayList<>();
+        for (int i = 0; i < localMisses.size(); i++) {
+            if (cached != null && cached.get(i) instanceof PostDto post) {
+                posts.put(post.getId(), post);
+                putLocal(post, now);
+            } else {
+                redisMisses.add(localMisses.get(i));
+            }
+        }
+        if (redisMisses.isEmpty()) {
+            return posts;
+        }
+
+        List<PostDto> fetched = postClient.getPostsByIds(redisMisses);
+        fetched.forEach(post -> {
+            posts.put(post.getId(), post);
+            putLocal(post, now);
+        });
+        putRedis(fetched);
+
+        log.debug("Resolved {} posts: {} local hits, {} redis hits, {} fetched",
+                postIds.size(), postIds.size() - localMisses.size(),
+                localMisses.size() - redisMisses.size(), fetched.size());
+        return posts;
+    }
+
+    public void evict(Long postId) {
+        redisTemplate.delete(key(postId));
+        localCache.remove(postId);
+        stringRedisTemplate.convertAndSend(evictionChannel, String.valueOf(postId));
+    }
+
+    public void evictLocal(Long postId) {
+        localCache.remove(postId);
+    }
+
+    private void putLocal(PostDto post, Instant now) {
+        if (localCache.size() >= localMaxSize) {
+            localCache.values().removeIf(entry -> !entry.expiresAt().isAfter(now));
+            if (localCache.size() >= localMaxSize) {
+                localCache.clear();
+            }
+        }
+        localCache.put(post.getId(), new LocalEntry(post, now.plus(localTtl)));
+    }
+
+    private void putRedis(List<PostDto> posts) {
+        if (posts.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, Object> stringOperations = (RedisOperations<String, Object>) operations;
+                posts.forEach(post -> stringOperations.opsForValue().set(key(post.getId()), post, redisTtl));
+                return null;
+            }
+        });
+    }
+
+    private String key(Long postId) {
+        return POST_KEY + postId;
+    }
+
+    private record LocalEntry(PostDto post, Instant expiresAt) {
+    }
+}
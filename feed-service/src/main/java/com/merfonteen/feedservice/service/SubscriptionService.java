@@ -8,6 +8,7 @@ public interface SubscriptionService {
     List<SubscriptionDto> getMySubscriptions(Long currentUserId);
     List<SubscriptionDto> getMySubscribers(Long currentUserId);
     List<SubscriptionDto> getUserSubscribersByUserId(Long userId);
+    List<SubscriptionDto> getSubscriptionsAfter(Long afterId, int limit);
     SubscriptionDto follow(Long targetUserId, Long currentUserId);
     SubscriptionDto unfollow(Long targetUserId, Long currentUserId);
 }
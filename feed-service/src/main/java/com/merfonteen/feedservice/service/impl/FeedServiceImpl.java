@@ -1,109 +1,247 @@
 package com.merfonteen.feedservice.service.impl;
 
-import com.merfonteen.feedservice.config.CacheNames;
+import com.merfonteen.exceptions.BadRequestException;
+import com.merfonteen.feedservice.client.PostClient;
 import com.merfonteen.feedservice.dto.FeedDto;
 import com.merfonteen.feedservice.dto.FeedPageResponse;
+import com.merfonteen.feedservice.dto.FeedScrollRequest;
 import com.merfonteen.feedservice.dto.FeedSearchRequest;
+import com.merfonteen.feedservice.dto.FeedSliceResponse;
+import com.merfonteen.feedservice.dto.HydratedFeedDto;
+import com.merfonteen.feedservice.dto.HydratedFeedSliceResponse;
+import com.merfonteen.feedservice.dto.PostDto;
 import com.merfonteen.feedservice.mapper.FeedMapper;
+import com.merfonteen.feedservice.model.CelebrityPost;
 import com.merfonteen.feedservice.model.Feed;
-import com.merfonteen.feedservice.model.Subscription;
+import com.merfonteen.feedservice.model.cursors.FeedCursor;
+import com.merfonteen.feedservice.repository.CelebrityPostRepository;
 import com.merfonteen.feedservice.repository.FeedRepository;
 import com.merfonteen.feedservice.repository.SubscriptionRepository;
-import com.merfonteen.feedservice.service.FeedCacheInvalidator;
+import com.merfonteen.feedservice.service.FeedFanOutCoordinator;
+import com.merfonteen.feedservice.service.FeedHydrator;
 import com.merfonteen.feedservice.service.FeedService;
+import com.merfonteen.feedservice.service.FeedTimelineStore;
+import com.merfonteen.feedservice.service.PostContentCache;
+import com.merfonteen.feedservice.util.CursorCodec;
 import com.merfonteen.kafkaEvents.PostCreatedEvent;
 import com.merfonteen.kafkaEvents.PostRemovedEvent;
+import com.merfonteen.kafkaEvents.PostUpdatedEvent;
+import com.merfonteen.kafkaEvents.SubscriptionCreatedEvent;
+import com.merfonteen.kafkaEvents.SubscriptionRemovedEvent;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Primary;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashSet;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Set;
+import java.util.Optional;
 
 @Slf4j
 @RequiredArgsConstructor
 @Primary
 @Service
 public class FeedServiceImpl implements FeedService {
+    private static final Duration FEED_RETENTION = Duration.ofDays(7);
+
+    private final PostClient postClient;
     private final FeedMapper feedMapper;
+    private final CursorCodec cursorCodec;
+    private final FeedHydrator feedHydrator;
     private final FeedRepository feedRepository;
-    private final FeedCacheInvalidator feedCacheInvalidator;
+    private final PostContentCache postContentCache;
+    private final FeedFanOutCoordinator feedFanOutCoordinator;
+    private final FeedTimelineStore feedTimelineStore;
     private final SubscriptionRepository subscriptionRepository;
+    private final CelebrityPostRepository celebrityPostRepository;
+
+    @Value("${feed.celebrity-threshold}")
+    private long celebrityThreshold;
+
+    @Value("${feed.timeline.max-length}")
+    private int maxTimelineLength;
+
+    @Value("${feed.backfill.posts}")
+    private int backfillPosts;
 
-    @Cacheable(value = CacheNames.FEED_CACHE, key = "#currentUserId + " +
-                                                    "':' + #searchRequest.page + " +
-                                                     "':' + #searchRequest.size")
     @Override
     public FeedPageResponse getMyFeed(Long currentUserId, FeedSearchRequest searchRequest) {
         PageRequest pageRequest = feedMapper.buildPageRequest(searchRequest);
-        Page<Feed> feedsPage = feedRepository.findAllByUserId(currentUserId, pageRequest);
+        if (pageRequest.getOffset() + pageRequest.getPageSize() > maxTimelineLength) {
+            throw new BadRequestException(String.format(
+                    "Feed pages end at %d posts, continue with /api/feed/scroll", maxTimelineLength));
+        }
+        PageRequest mergeWindow = PageRequest.of(
+                0, (pageRequest.getPageNumber() + 1) * pageRequest.getPageSize(), pageRequest.getSort());
+
+        Page<CelebrityPost> celebrityPosts =
+                celebrityPostRepository.findAllFollowedByUserId(currentUserId, mergeWindow);
+
+        Page<Feed> feedsPage = celebrityPosts.isEmpty()
+                ? readTimeline(currentUserId, pageRequest)
+                : mergeWithCelebrityPosts(currentUserId, pageRequest, mergeWindow, celebrityPosts);
         List<FeedDto> feedsForUser = feedMapper.toListDtos(feedsPage.getContent());
 
         log.info("Fetched {} feeds for userId={}", feedsForUser.size(), currentUserId);
         return feedMapper.buildFeedPageResponse(feedsForUser, feedsPage);
     }
 
-    @Transactional
     @Override
-    public void distributePostToSubscribers(PostCreatedEvent event) {
-        List<Subscription> subscriptions = subscriptionRepository.findAllByFolloweeId(event.getAuthorId());
-        List<Feed> buffer = new ArrayList<>();
-        Set<Long> userIdsToEvictCache = new HashSet<>();
-
-        for (Subscription subscription : subscriptions) {
-            buffer.add(Feed.builder()
-                    .postId(event.getPostId())
-                    .userId(subscription.getFollowerId())
-                    .createdAt(event.getCreatedAt())
-                    .build());
-
-            userIdsToEvictCache.add(subscription.getFollowerId());
-
-            if (buffer.size() == 50) {
-                safeSaveFeeds(buffer);
-                buffer.clear();
-            }
-        }
+    public FeedSliceResponse scrollMyFeed(Long currentUserId, FeedScrollRequest request) {
+        Pageable page = Pageable.ofSize(Math.min(Math.max(request.getLimit(), 1), 100));
+        Optional<FeedCursor> cursor = cursorCodec.decodeFeedCursor(request.getCursor());
 
-        if (!userIdsToEvictCache.isEmpty()) {
-            feedCacheInvalidator.evictFeedCache(userIdsToEvictCache);
+        Slice<Feed> pushedFeeds;
+        Slice<CelebrityPost> celebrityPosts;
+        if (cursor.isEmpty()) {
+            pushedFeeds = feedRepository.findLatestByUserId(currentUserId, page);
+            celebrityPosts = celebrityPostRepository.findLatestFollowedByUserId(currentUserId, page);
+        } else {
+            Instant createdAt = cursor.get().createdAt();
+            long postId = cursor.get().postId();
+            pushedFeeds = feedRepository.findByUserIdAfterCursor(currentUserId, createdAt, postId, page);
+            celebrityPosts = celebrityPostRepository.findFollowedByUserIdAfterCursor(currentUserId, createdAt, postId, page);
         }
 
-        if (!buffer.isEmpty()) {
-            safeSaveFeeds(buffer);
+        List<Feed> merged = new ArrayList<>(pushedFeeds.getContent());
+        celebrityPosts.forEach(post -> merged.add(feedMapper.toFeed(post, currentUserId)));
+        merged.sort(Comparator.comparing(Feed::getCreatedAt).thenComparing(Feed::getPostId).reversed());
+
+        List<Feed> feeds = merged.subList(0, Math.min(page.getPageSize(), merged.size()));
+        boolean hasNext = merged.size() > feeds.size() || pushedFeeds.hasNext() || celebrityPosts.hasNext();
+        String nextCursor = hasNext && !feeds.isEmpty()
+                ? cursorCodec.encodeFeedCursor(feeds.getLast().getCreatedAt(), feeds.getLast().getPostId())
+                : null;
+
+        log.info("Scrolled {} feeds for userId={}", feeds.size(), currentUserId);
+        return feedMapper.buildFeedSliceResponse(feedMapper.toListDtos(feeds), nextCursor);
+    }
+
+    @Override
+    public HydratedFeedSliceResponse scrollMyHydratedFeed(Long currentUserId, FeedScrollRequest request) {
+        FeedSliceResponse slice = scrollMyFeed(currentUserId, request);
+        List<HydratedFeedDto> feeds = feedHydrator.hydrate(slice.getFeeds());
+        return feedMapper.buildHydratedFeedSliceResponse(feeds, slice.getNextCursor());
+    }
+
+    @Override
+    public void distributePostToSubscribers(PostCreatedEvent event) {
+        long followersCount = subscriptionRepository.countByFolloweeId(event.getAuthorId());
+        if (followersCount > celebrityThreshold) {
+            celebrityPostRepository.insertIfAbsent(event.getPostId(), event.getAuthorId(), event.getCreatedAt());
+            log.info("Skipped fan-out of post '{}': author '{}' has {} followers, post will be pulled at read time",
+                    event.getPostId(), event.getAuthorId(), followersCount);
+            return;
         }
+
+        feedFanOutCoordinator.fanOut(event);
+    }
+
+    @Override
+    public void refreshPostContent(PostUpdatedEvent event) {
+        postContentCache.evict(event.getPostId());
+        log.info("Evicted cached content of updated post '{}'", event.getPostId());
     }
 
     @Transactional
     @Override
     public void deleteFeedsByPostId(PostRemovedEvent event) {
+        List<Long> userIds = feedRepository.findAllUserIdsByPostId(event.getPostId());
         int deleted = feedRepository.deleteAllByPostId(event.getPostId());
-        feedCacheInvalidator.evictFeedCache(Set.of(event.getAuthorId()));
+        deleted += celebrityPostRepository.deleteAllByPostId(event.getPostId());
+        feedTimelineStore.removePost(userIds, event.getPostId());
+        postContentCache.evict(event.getPostId());
         log.info("Deleted {} feeds by postId={}", deleted, event.getPostId());
     }
 
+    @Override
+    public void backfillFollowedAuthor(SubscriptionCreatedEvent event) {
+        Long followerId = event.getFollowerId();
+        Long followeeId = event.getFolloweeId();
+
+        if (subscriptionRepository.findSubscriptionByFollowerIdAndFolloweeId(followerId, followeeId).isEmpty()) {
+            log.info("Skipped backfill of author '{}' for user '{}': subscription no longer exists", followeeId, followerId);
+            return;
+        }
+        if (subscriptionRepository.countByFolloweeId(followeeId) > celebrityThreshold) {
+            log.info("Skipped backfill of author '{}' for user '{}': posts are pulled at read time", followeeId, followerId);
+            return;
+        }
+
+        List<PostDto> posts = postClient.getUserPosts(followeeId, 0, backfillPosts).getPosts();
+        int inserted = 0;
+        if (!posts.isEmpty()) {
+            long[] postIds = posts.stream().mapToLong(PostDto::getId).toArray();
+            Instant[] createdAts = posts.stream().map(PostDto::getCreatedAt).toArray(Instant[]::new);
+            inserted = feedRepository.insertAuthorPosts(
+                    followerId, followeeId, postIds, createdAts, Instant.now().minus(FEED_RETENTION));
+            feedRepository.trimTimelines(new long[]{followerId}, maxTimelineLength);
+        }
+        feedTimelineStore.evict(followerId);
+
+        log.info("Backfilled {} posts of author '{}' into feed of user '{}'", inserted, followeeId, followerId);
+    }
+
+    @Override
+    public void removeUnfollowedAuthor(SubscriptionRemovedEvent event) {
+        Long followerId = event.getFollowerId();
+        Long followeeId = event.getTargetUserId();
+
+        if (followerId == null) {
+            log.warn("Skipped feed cleanup for unfollowed author '{}': event has no follower id", followeeId);
+            return;
+        }
+        if (subscriptionRepository.findSubscriptionByFollowerIdAndFolloweeId(followerId, followeeId).isPresent()) {
+            log.info("Skipped feed cleanup of author '{}' for user '{}': user follows the author again", followeeId, followerId);
+            return;
+        }
+
+        int deleted = feedRepository.deleteAllByUserIdAndAuthorId(followerId, followeeId);
+        feedTimelineStore.evict(followerId);
+
+        log.info("Removed {} posts of unfollowed author '{}' from feed of user '{}'", deleted, followeeId, followerId);
+    }
+
     @Transactional(value = Transactional.TxType.REQUIRES_NEW)
-    public int deleteFeedsBelowDate(Instant date, int batchSize) {
-        int deletedFeedsBelowDate = feedRepository.deleteFeedsBelowDate(date, batchSize);
-        log.info("Deleted {} outdated feeds below date {}", deletedFeedsBelowDate, date);
-        return deletedFeedsBelowDate;
+    @Override
+    public int deleteCelebrityPostsBelowDate(Instant date, int batchSize) {
+        int deletedPostsBelowDate = celebrityPostRepository.deleteCelebrityPostsBelowDate(date, batchSize);
+        log.info("Deleted {} outdated celebrity posts below date {}", deletedPostsBelowDate, date);
+        return deletedPostsBelowDate;
     }
 
-    private void safeSaveFeeds(List<Feed> feedsToSave) {
-        try {
-            feedRepository.saveAll(feedsToSave);
-        } catch (DataIntegrityViolationException e) {
-            log.warn("Duplicated feed entry detected, skipping duplicates: {}", e.getMessage());
+    private Page<Feed> readTimeline(Long currentUserId, PageRequest pageRequest) {
+        if (!feedTimelineStore.isLoaded(currentUserId)) {
+            PageRequest recentFeeds = PageRequest.of(0, feedTimelineStore.getMaxSize(), pageRequest.getSort());
+            feedTimelineStore.rebuild(currentUserId, feedRepository.findAllByUserId(currentUserId, recentFeeds).getContent());
         }
+        return feedTimelineStore.read(currentUserId, pageRequest);
+    }
+
+    private Page<Feed> mergeWithCelebrityPosts(Long currentUserId,
+                                               PageRequest pageRequest,
+                                               PageRequest mergeWindow,
+                                               Page<CelebrityPost> celebrityPosts) {
+        Page<Feed> pushedFeeds = readTimeline(currentUserId, mergeWindow);
+
+        List<Feed> merged = new ArrayList<>(pushedFeeds.getContent());
+        celebrityPosts.forEach(post -> merged.add(feedMapper.toFeed(post, currentUserId)));
+        merged.sort(Comparator.comparing(Feed::getCreatedAt).thenComparing(Feed::getPostId).reversed());
+
+        int from = Math.min((int) pageRequest.getOffset(), merged.size());
+        int to = Math.min(from + pageRequest.getPageSize(), merged.size());
+        long total = pushedFeeds.getTotalElements() + celebrityPosts.getTotalElements();
+
+        return new PageImpl<>(merged.subList(from, to), pageRequest, total);
     }
 }
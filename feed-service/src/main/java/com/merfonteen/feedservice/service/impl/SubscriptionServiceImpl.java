@@ -19,6 +19,7 @@ import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
@@ -30,6 +31,8 @@ import java.util.Objects;
 @Primary
 @Service
 public class SubscriptionServiceImpl implements SubscriptionService {
+    private static final int MAX_SUBSCRIPTIONS_PAGE_SIZE = 1000;
+
     private final UserClient userClient;
     private final OutboxService outboxService;
     private final SubscriptionMapper subscriptionMapper;
@@ -60,6 +63,14 @@ public class SubscriptionServiceImpl implements SubscriptionService {
         return subscriptionMapper.toDtos(userSubscribers);
     }
 
+    @Override
+    public List<SubscriptionDto> getSubscriptionsAfter(Long afterId, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_SUBSCRIPTIONS_PAGE_SIZE);
+        List<Subscription> subscriptions = subscriptionRepository.findAllByIdGreaterThanOrderByIdAsc(afterId, Limit.of(pageSize));
+        log.info("Exporting {} subscriptions after id: {}", subscriptions.size(), afterId);
+        return subscriptionMapper.toDtos(subscriptions);
+    }
+
     @Caching(evict = {
             @CacheEvict(value = CacheNames.SUBSCRIPTION_CACHE, key = "#currentUserId"),
             @CacheEvict(value = CacheNames.SUBSCRIBERS_CACHE, key = "#targetUserId")
@@ -0,0 +1,39 @@
+package com.merfonteen.feedservice.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.merfonteen.exceptions.BadRequestException;
+import com.merfonteen.feedservice.model.cursors.FeedCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+@Component
+public class CursorCodec {
+    private final ObjectMapper objectMapper;
+
+    public String encodeFeedCursor(Instant createdAt, long postId) {
+        try {
+            String json = objectMapper.writeValueAsString(new FeedCursor(createdAt, postId));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+        } catch (Exception ex) {
+            throw new IllegalStateException("Failed to encode cursor", ex);
+        }
+    }
+
+    public Optional<FeedCursor> decodeFeedCursor(String encodedCursor) {
+        if (encodedCursor == null || encodedCursor.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            byte[] raw = Base64.getUrlDecoder().decode(encodedCursor);
+            return Optional.of(objectMapper.readValue(new String(raw, StandardCharsets.UTF_8), FeedCursor.class));
+        } catch (Exception ex) {
+            throw new BadRequestException("Bad cursor");
+        }
+    }
+}
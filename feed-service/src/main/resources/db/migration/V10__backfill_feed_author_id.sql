@@ -0,0 +1,5 @@
+-- Feed rows written before V5 have no author_id, so unfollowing would leave them behind.
+-- Posts live in post-service's own database; FeedAuthorBackfiller fills these rows through its batch endpoint.
+CREATE INDEX idx_feeds_post_id_missing_author ON feed_service.feeds (post_id) WHERE author_id IS NULL;
+
+CREATE INDEX idx_feeds_user_id_author_id ON feed_service.feeds (user_id, author_id);
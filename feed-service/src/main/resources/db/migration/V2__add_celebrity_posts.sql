@@ -0,0 +1,13 @@
+CREATE TABLE feed_service.celebrity_posts
+(
+    id         BIGSERIAL PRIMARY KEY,
+    post_id    BIGINT    NOT NULL,
+    author_id  BIGINT    NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT now(),
+
+    CONSTRAINT unique_celebrity_post UNIQUE (post_id)
+);
+
+CREATE INDEX idx_celebrity_posts_author_id_and_created_at ON feed_service.celebrity_posts (author_id, created_at);
+CREATE INDEX idx_celebrity_posts_created_at ON feed_service.celebrity_posts (created_at);
+CREATE INDEX idx_subscriptions_followee_id ON feed_service.subscriptions (followee_id);
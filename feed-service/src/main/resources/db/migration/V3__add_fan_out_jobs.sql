@@ -0,0 +1,14 @@
+CREATE TABLE feed_service.fan_out_jobs
+(
+    post_id          BIGINT PRIMARY KEY,
+    author_id        BIGINT      NOT NULL,
+    post_created_at  TIMESTAMP   NOT NULL,
+    last_follower_id BIGINT      NOT NULL DEFAULT 0,
+    status           VARCHAR(20) NOT NULL,
+    updated_at       TIMESTAMP   NOT NULL DEFAULT now()
+);
+
+CREATE INDEX idx_fan_out_jobs_in_progress ON feed_service.fan_out_jobs (updated_at) WHERE status = 'IN_PROGRESS';
+
+DROP INDEX feed_service.idx_subscriptions_followee_id;
+CREATE INDEX idx_subscriptions_followee_id_and_follower_id ON feed_service.subscriptions (followee_id, follower_id);
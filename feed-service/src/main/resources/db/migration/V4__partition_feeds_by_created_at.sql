@@ -0,0 +1,41 @@
+ALTER TABLE feed_service.feeds RENAME TO feeds_legacy;
+ALTER SEQUENCE feed_service.feeds_id_seq OWNED BY NONE;
+
+CREATE TABLE feed_service.feeds
+(
+    id         BIGINT    NOT NULL DEFAULT nextval('feed_service.feeds_id_seq'),
+    user_id    BIGINT    NOT NULL,
+    post_id    BIGINT    NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT now()
+) PARTITION BY RANGE (created_at);
+
+ALTER SEQUENCE feed_service.feeds_id_seq OWNED BY feed_service.feeds.id;
+
+CREATE TABLE feed_service.feeds_default PARTITION OF feed_service.feeds DEFAULT;
+
+DO
+$$
+    DECLARE
+        day DATE;
+    BEGIN
+        FOR day IN SELECT generate_series(current_date - 7, current_date + 7, INTERVAL '1 day')::date
+            LOOP
+                EXECUTE format(
+                        'CREATE TABLE feed_service.%I PARTITION OF feed_service.feeds FOR VALUES FROM (%L) TO (%L)',
+                        'feeds_p' || to_char(day, 'YYYYMMDD'), day, day + 1);
+            END LOOP;
+    END
+$$;
+
+INSERT INTO feed_service.feeds (id, user_id, post_id, created_at)
+SELECT id, user_id, post_id, created_at
+FROM feed_service.feeds_legacy
+WHERE created_at >= current_date - 7;
+
+DROP TABLE feed_service.feeds_legacy;
+
+ALTER TABLE feed_service.feeds ADD CONSTRAINT pk_feeds PRIMARY KEY (id, created_at);
+ALTER TABLE feed_service.feeds ADD CONSTRAINT unique_user_post UNIQUE (user_id, post_id, created_at);
+
+CREATE INDEX idx_feeds_user_id_and_created_at ON feed_service.feeds (user_id, created_at DESC, id DESC);
+CREATE INDEX idx_feeds_post_id ON feed_service.feeds (post_id);
@@ -0,0 +1 @@
+ALTER TABLE feed_service.feeds ADD COLUMN author_id BIGINT;
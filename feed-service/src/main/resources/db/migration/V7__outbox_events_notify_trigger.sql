@@ -0,0 +1,10 @@
+CREATE OR REPLACE FUNCTION feed_service.notify_outbox_events() RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM pg_notify('feed_service_outbox', '');
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_outbox_events_notify
+    AFTER INSERT ON feed_service.outbox_events
+    FOR EACH STATEMENT EXECUTE FUNCTION feed_service.notify_outbox_events();
@@ -0,0 +1,6 @@
+CREATE INDEX idx_feeds_user_id_created_at_post_id ON feed_service.feeds (user_id, created_at DESC, post_id DESC);
+DROP INDEX IF EXISTS feed_service.idx_feeds_user_id_and_created_at;
+
+CREATE INDEX idx_celebrity_posts_author_id_created_at_post_id
+    ON feed_service.celebrity_posts (author_id, created_at DESC, post_id DESC);
+DROP INDEX IF EXISTS feed_service.idx_celebrity_posts_author_id_and_created_at;
@@ -1,15 +1,33 @@
 package com.merfonteen.feedservice.service.impl;
 
+import com.merfonteen.exceptions.BadRequestException;
+import com.merfonteen.feedservice.client.PostClient;
 import com.merfonteen.feedservice.dto.FeedDto;
 import com.merfonteen.feedservice.dto.FeedPageResponse;
+import com.merfonteen.feedservice.dto.FeedScrollRequest;
 import com.merfonteen.feedservice.dto.FeedSearchRequest;
+import com.merfonteen.feedservice.dto.FeedSliceResponse;
+import com.merfonteen.feedservice.dto.HydratedFeedDto;
+import com.merfonteen.feedservice.dto.HydratedFeedSliceResponse;
+import com.merfonteen.feedservice.dto.PostDto;
+import com.merfonteen.feedservice.dto.UserPostsDto;
 import com.merfonteen.feedservice.mapper.FeedMapper;
+import com.merfonteen.feedservice.model.CelebrityPost;
 import com.merfonteen.feedservice.model.Feed;
 import com.merfonteen.feedservice.model.Subscription;
+import com.merfonteen.feedservice.repository.CelebrityPostRepository;
 import com.merfonteen.feedservice.repository.FeedRepository;
 import com.merfonteen.feedservice.repository.SubscriptionRepository;
-import com.merfonteen.feedservice.service.FeedCacheInvalidator;
+import com.merfonteen.feedservice.service.FeedFanOutCoordinator;
+import com.merfonteen.feedservice.service.FeedHydrator;
+import com.merfonteen.feedservice.service.FeedTimelineStore;
+import com.merfonteen.feedservice.service.PostContentCache;
+import com.merfonteen.feedservice.util.CursorCodec;
 import com.merfonteen.kafkaEvents.PostCreatedEvent;
+import com.merfonteen.kafkaEvents.PostUpdatedEvent;
+import com.merfonteen.kafkaEvents.SubscriptionCreatedEvent;
+import com.merfonteen.kafkaEvents.SubscriptionRemovedEvent;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -19,36 +37,65 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
+import java.util.Optional;
 
 import static com.merfonteen.feedservice.service.impl.FeedServiceImplTest.TestResources.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.AdditionalMatchers.aryEq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class FeedServiceImplTest {
 
+    @Mock
+    private PostClient postClient;
+
     @Mock
     private FeedMapper feedMapper;
 
+    @Mock
+    private CursorCodec cursorCodec;
+
+    @Mock
+    private FeedHydrator feedHydrator;
+
     @Mock
     private FeedRepository feedRepository;
 
     @Mock
-    private FeedCacheInvalidator feedCacheInvalidator;
+    private PostContentCache postContentCache;
+
+    @Mock
+    private FeedFanOutCoordinator feedFanOutCoordinator;
+
+    @Mock
+    private FeedTimelineStore feedTimelineStore;
 
     @Mock
     private SubscriptionRepository subscriptionRepository;
 
+    @Mock
+    private CelebrityPostRepository celebrityPostRepository;
+
     @InjectMocks
     private FeedServiceImpl feedService;
 
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(feedService, "celebrityThreshold", CELEBRITY_THRESHOLD);
+        ReflectionTestUtils.setField(feedService, "maxTimelineLength", MAX_TIMELINE_LENGTH);
+        ReflectionTestUtils.setField(feedService, "backfillPosts", BACKFILL_POSTS);
+    }
+
     @Test
     void testGetMyFeed_Success() {
         List<Feed> feeds = buildFeeds();
@@ -56,7 +103,9 @@ class FeedServiceImplTest {
         List<FeedDto> feedDtos = buildFeedDtos();
 
         when(feedMapper.buildPageRequest(buildFeedSearchRequest())).thenReturn(buildPageRequest());
-        when(feedRepository.findAllByUserId(USER_ID, buildPageRequest())).thenReturn(feedPage);
+        when(celebrityPostRepository.findAllFollowedByUserId(USER_ID, buildPageRequest())).thenReturn(Page.empty());
+        when(feedTimelineStore.isLoaded(USER_ID)).thenReturn(true);
+        when(feedTimelineStore.read(USER_ID, buildPageRequest())).thenReturn(feedPage);
         when(feedMapper.toListDtos(feeds)).thenReturn(feedDtos);
         when(feedMapper.buildFeedPageResponse(feedDtos, feedPage)).thenReturn(buildFeedPageResponse(feedDtos, feedPage));
 
@@ -66,25 +115,173 @@ class FeedServiceImplTest {
     }
 
     @Test
-    void testDistributePostToSubscribers_ShouldDistributeInBatchesAndEvictCache() {
+    void testGetMyFeed_ShouldMergePushedFeedsWithCelebrityPosts() {
+        List<Feed> feeds = buildFeeds();
+        CelebrityPost celebrityPost = buildCelebrityPost();
+        Feed pulledFeed = Feed.builder().userId(USER_ID).postId(CELEBRITY_POST_ID).createdAt(CELEBRITY_POST_CREATED_AT).build();
+
+        when(feedMapper.buildPageRequest(buildFeedSearchRequest())).thenReturn(buildPageRequest());
+        when(celebrityPostRepository.findAllFollowedByUserId(USER_ID, buildPageRequest()))
+                .thenReturn(new PageImpl<>(List.of(celebrityPost), buildPageRequest(), 1));
+        when(feedTimelineStore.isLoaded(USER_ID)).thenReturn(true);
+        when(feedTimelineStore.read(USER_ID, buildPageRequest())).thenReturn(buildFeedPage(feeds));
+        when(feedMapper.toFeed(celebrityPost, USER_ID)).thenReturn(pulledFeed);
+
+        feedService.getMyFeed(USER_ID, buildFeedSearchRequest());
+
+        ArgumentCaptor<Page<Feed>> pageCaptor = ArgumentCaptor.forClass(Page.class);
+        verify(feedMapper).buildFeedPageResponse(any(), pageCaptor.capture());
+
+        Page<Feed> merged = pageCaptor.getValue();
+        assertEquals(3, merged.getTotalElements());
+        assertEquals(pulledFeed, merged.getContent().get(0));
+        verify(feedMapper).toListDtos(List.of(pulledFeed, feeds.get(1), feeds.get(0)));
+    }
+
+    @Test
+    void testGetMyFeed_ShouldThrowBadRequest_WhenPageIsBeyondTimelineLength() {
+        FeedSearchRequest deepRequest = FeedSearchRequest.builder().page(MAX_TIMELINE_LENGTH / SIZE).size(SIZE).build();
+        when(feedMapper.buildPageRequest(deepRequest))
+                .thenReturn(PageRequest.of(MAX_TIMELINE_LENGTH / SIZE, SIZE, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        assertThrows(BadRequestException.class, () -> feedService.getMyFeed(USER_ID, deepRequest));
+
+        verifyNoInteractions(celebrityPostRepository, feedTimelineStore);
+    }
+
+    @Test
+    void testGetMyFeed_ShouldRebuildTimelineFromDatabase_WhenTimelineIsCold() {
+        List<Feed> feeds = buildFeeds();
+        PageRequest rebuildRequest = PageRequest.of(0, MAX_TIMELINE_LENGTH, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        when(feedMapper.buildPageRequest(buildFeedSearchRequest())).thenReturn(buildPageRequest());
+        when(celebrityPostRepository.findAllFollowedByUserId(USER_ID, buildPageRequest())).thenReturn(Page.empty());
+        when(feedTimelineStore.isLoaded(USER_ID)).thenReturn(false);
+        when(feedTimelineStore.getMaxSize()).thenReturn(MAX_TIMELINE_LENGTH);
+        when(feedRepository.findAllByUserId(USER_ID, rebuildRequest)).thenReturn(buildFeedPage(feeds));
+        when(feedTimelineStore.read(USER_ID, buildPageRequest())).thenReturn(buildFeedPage(feeds));
+
+        feedService.getMyFeed(USER_ID, buildFeedSearchRequest());
+
+        verify(feedTimelineStore).rebuild(USER_ID, feeds);
+        verify(feedRepository, never()).findAllByUserId(USER_ID, buildPageRequest());
+    }
+
+    @Test
+    void testScrollMyFeed_ShouldReturnNextCursorFromLastItem_WhenMoreFeedsExist() {
+        List<Feed> feeds = buildFeeds();
+        Pageable page = Pageable.ofSize(feeds.size());
+        FeedScrollRequest request = FeedScrollRequest.builder().limit(feeds.size()).build();
+
+        when(feedRepository.findLatestByUserId(USER_ID, page)).thenReturn(new SliceImpl<>(feeds, page, true));
+        when(celebrityPostRepository.findLatestFollowedByUserId(USER_ID, page)).thenReturn(new SliceImpl<>(List.of()));
+        when(cursorCodec.encodeFeedCursor(CREATED_AT, FIRST_POST_ID)).thenReturn(NEXT_CURSOR);
+        when(feedMapper.buildFeedSliceResponse(any(), eq(NEXT_CURSOR))).thenCallRealMethod();
+
+        FeedSliceResponse result = feedService.scrollMyFeed(USER_ID, request);
+
+        assertThat(result.getNextCursor()).isEqualTo(NEXT_CURSOR);
+        assertThat(result.getHasNext()).isTrue();
+        verify(feedRepository, never()).findAllByUserId(anyLong(), any());
+    }
+
+    @Test
+    void testScrollMyHydratedFeed_ShouldHydrateScrolledFeedsAndKeepCursor() {
+        List<Feed> feeds = buildFeeds();
+        List<FeedDto> feedDtos = buildFeedDtos();
+        List<HydratedFeedDto> hydratedFeeds = buildHydratedFeedDtos();
+        Pageable page = Pageable.ofSize(feeds.size());
+        FeedScrollRequest request = FeedScrollRequest.builder().limit(feeds.size()).build();
+
+        when(feedRepository.findLatestByUserId(USER_ID, page)).thenReturn(new SliceImpl<>(feeds, page, true));
+        when(celebrityPostRepository.findLatestFollowedByUserId(USER_ID, page)).thenReturn(new SliceImpl<>(List.of()));
+        when(cursorCodec.encodeFeedCursor(CREATED_AT, FIRST_POST_ID)).thenReturn(NEXT_CURSOR);
+        when(feedMapper.toListDtos(List.of(feeds.get(1), feeds.get(0)))).thenReturn(feedDtos);
+        when(feedMapper.buildFeedSliceResponse(feedDtos, NEXT_CURSOR)).thenCallRealMethod();
+        when(feedHydrator.hydrate(feedDtos)).thenReturn(hydratedFeeds);
+        when(feedMapper.buildHydratedFeedSliceResponse(hydratedFeeds, NEXT_CURSOR)).thenCallRealMethod();
+
+        HydratedFeedSliceResponse result = feedService.scrollMyHydratedFeed(USER_ID, request);
+
+        assertThat(result.getFeeds()).isEqualTo(hydratedFeeds);
+        assertThat(result.getNextCursor()).isEqualTo(NEXT_CURSOR);
+        assertThat(result.getHasNext()).isTrue();
+    }
+
+    @Test
+    void testDistributePostToSubscribers_ShouldStartFanOut_WhenAuthorIsBelowCelebrityThreshold() {
         PostCreatedEvent event = buildPostCreatedEvent();
-        List<Subscription> subscriptions = new ArrayList<>();
-        for (long i = 1; i <= 100; i++) {
-            subscriptions.add(
-                    Subscription.builder()
-                            .followeeId(AUTHOR_ID)
-                            .followerId(i)
-                            .createdAt(CREATED_AT)
-                            .build()
-            );
-        }
 
-        when(subscriptionRepository.findAllByFolloweeId(AUTHOR_ID)).thenReturn(subscriptions);
+        when(subscriptionRepository.countByFolloweeId(AUTHOR_ID)).thenReturn(CELEBRITY_THRESHOLD);
 
         feedService.distributePostToSubscribers(event);
 
-        verify(feedRepository, times(2)).saveAll(anyList());
-        verify(feedCacheInvalidator, times(1)).evictFeedCache(any(Set.class));
+        verify(feedFanOutCoordinator, times(1)).fanOut(event);
+        verifyNoInteractions(celebrityPostRepository);
+    }
+
+    @Test
+    void testDistributePostToSubscribers_ShouldSkipFanOut_WhenAuthorIsAboveCelebrityThreshold() {
+        PostCreatedEvent event = buildPostCreatedEvent();
+
+        when(subscriptionRepository.countByFolloweeId(AUTHOR_ID)).thenReturn(CELEBRITY_THRESHOLD + 1);
+
+        feedService.distributePostToSubscribers(event);
+
+        verify(celebrityPostRepository).insertIfAbsent(FIRST_POST_ID, AUTHOR_ID, CREATED_AT);
+        verifyNoInteractions(feedFanOutCoordinator);
+        verifyNoInteractions(feedTimelineStore);
+    }
+
+    @Test
+    void testRefreshPostContent_ShouldEvictCachedPostContent() {
+        feedService.refreshPostContent(new PostUpdatedEvent(FIRST_POST_ID, AUTHOR_ID, CREATED_AT));
+
+        verify(postContentCache).evict(FIRST_POST_ID);
+        verifyNoInteractions(feedRepository, feedTimelineStore);
+    }
+
+    @Test
+    void testBackfillFollowedAuthor_ShouldInsertRecentPostsAndEvictFollowerTimeline() {
+        SubscriptionCreatedEvent event = new SubscriptionCreatedEvent(SUBSCRIPTION_ID, USER_ID, AUTHOR_ID);
+        List<PostDto> posts = buildAuthorPosts();
+
+        when(subscriptionRepository.findSubscriptionByFollowerIdAndFolloweeId(USER_ID, AUTHOR_ID))
+                .thenReturn(Optional.of(buildSubscription()));
+        when(subscriptionRepository.countByFolloweeId(AUTHOR_ID)).thenReturn(CELEBRITY_THRESHOLD);
+        when(postClient.getUserPosts(AUTHOR_ID, 0, BACKFILL_POSTS)).thenReturn(new UserPostsDto(posts));
+        when(feedRepository.insertAuthorPosts(eq(USER_ID), eq(AUTHOR_ID),
+                aryEq(new long[]{FIRST_POST_ID, SECOND_POST_ID}), aryEq(new Instant[]{CREATED_AT, CREATED_AT}), any()))
+                .thenReturn(posts.size());
+
+        feedService.backfillFollowedAuthor(event);
+
+        verify(feedRepository).trimTimelines(aryEq(new long[]{USER_ID}), eq(MAX_TIMELINE_LENGTH));
+        verify(feedTimelineStore).evict(USER_ID);
+    }
+
+    @Test
+    void testBackfillFollowedAuthor_ShouldSkip_WhenSubscriptionNoLongerExists() {
+        SubscriptionCreatedEvent event = new SubscriptionCreatedEvent(SUBSCRIPTION_ID, USER_ID, AUTHOR_ID);
+
+        when(subscriptionRepository.findSubscriptionByFollowerIdAndFolloweeId(USER_ID, AUTHOR_ID)).thenReturn(Optional.empty());
+
+        feedService.backfillFollowedAuthor(event);
+
+        verifyNoInteractions(postClient, feedRepository, feedTimelineStore);
+    }
+
+    @Test
+    void testRemoveUnfollowedAuthor_ShouldDeleteAuthorPostsAndEvictFollowerTimeline() {
+        SubscriptionRemovedEvent event = new SubscriptionRemovedEvent(AUTHOR_ID, USER_ID);
+
+        when(subscriptionRepository.findSubscriptionByFollowerIdAndFolloweeId(USER_ID, AUTHOR_ID)).thenReturn(Optional.empty());
+        when(feedRepository.deleteAllByUserIdAndAuthorId(USER_ID, AUTHOR_ID)).thenReturn(2);
+
+        feedService.removeUnfollowedAuthor(event);
+
+        verify(feedRepository).deleteAllByUserIdAndAuthorId(USER_ID, AUTHOR_ID);
+        verify(feedTimelineStore).evict(USER_ID);
     }
 
     static class TestResources {
@@ -92,9 +289,16 @@ class FeedServiceImplTest {
         static final Long USER_ID = 1L;
         static final Long FIRST_POST_ID = 50L;
         static final Long SECOND_POST_ID = 70L;
+        static final Long CELEBRITY_POST_ID = 90L;
+        static final Long SUBSCRIPTION_ID = 10L;
+        static final long CELEBRITY_THRESHOLD = 1_000L;
+        static final int MAX_TIMELINE_LENGTH = 1_000;
+        static final int BACKFILL_POSTS = 20;
+        static final String NEXT_CURSOR = "next-cursor";
         static final int PAGE = 0;
         static final int SIZE = 10;
         static final Instant CREATED_AT = Instant.parse(Instant.now().toString());
+        static final Instant CELEBRITY_POST_CREATED_AT = CREATED_AT.plusSeconds(60);
 
         static List<Feed> buildFeeds() {
             return List.of(
@@ -103,6 +307,31 @@ class FeedServiceImplTest {
             );
         }
 
+        static List<PostDto> buildAuthorPosts() {
+            return List.of(
+                    PostDto.builder().id(FIRST_POST_ID).authorId(AUTHOR_ID).createdAt(CREATED_AT).build(),
+                    PostDto.builder().id(SECOND_POST_ID).authorId(AUTHOR_ID).createdAt(CREATED_AT).build()
+            );
+        }
+
+        static Subscription buildSubscription() {
+            return Subscription.builder()
+                    .id(SUBSCRIPTION_ID)
+                    .followerId(USER_ID)
+                    .followeeId(AUTHOR_ID)
+                    .createdAt(CREATED_AT)
+                    .build();
+        }
+
+        static CelebrityPost buildCelebrityPost() {
+            return CelebrityPost.builder()
+                    .id(1L)
+                    .postId(CELEBRITY_POST_ID)
+                    .authorId(AUTHOR_ID)
+                    .createdAt(CELEBRITY_POST_CREATED_AT)
+                    .build();
+        }
+
         static FeedPageResponse buildFeedPageResponse(List<FeedDto> feedDtos, Page<Feed> feedPage) {
             return FeedPageResponse.builder()
                     .feeds(feedDtos)
@@ -119,8 +348,15 @@ class FeedServiceImplTest {
 
         static List<FeedDto> buildFeedDtos() {
             return List.of(
-                    new FeedDto(1L, USER_ID, FIRST_POST_ID, Instant.now()),
-                    new FeedDto(2L, USER_ID, SECOND_POST_ID, Instant.now())
+                    new FeedDto(USER_ID, FIRST_POST_ID, Instant.now()),
+                    new FeedDto(USER_ID, SECOND_POST_ID, Instant.now())
+            );
+        }
+
+        static List<HydratedFeedDto> buildHydratedFeedDtos() {
+            return List.of(
+                    HydratedFeedDto.builder().postId(FIRST_POST_ID).authorId(AUTHOR_ID).likeCount(3L).commentCount(1L).build(),
+                    HydratedFeedDto.builder().postId(SECOND_POST_ID).authorId(AUTHOR_ID).likeCount(0L).commentCount(0L).build()
             );
         }
 
@@ -16,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.nio.charset.Charset;
 import java.time.Instant;
@@ -79,6 +80,22 @@ class SubscriptionServiceImplTest {
         verify(subscriptionRepository, times(1)).findAllByFolloweeId(USER_ID);
     }
 
+    @Test
+    void testGetSubscriptionsAfter_ShouldCapPageSize_WhenLimitIsTooLarge() {
+        Subscription sub1 = buildSubscription(FIRST_SUBSCRIPTION_ID, FIRST_FOLLOWER_ID, FIRST_FOLLOWEE_ID);
+        Subscription sub2 = buildSubscription(SECOND_SUBSCRIPTION_ID, SECOND_FOLLOWER_ID, SECOND_FOLLOWEE_ID);
+
+        List<SubscriptionDto> subscriptionDtos = buildSubscriptionDtoList(List.of(sub1, sub2));
+
+        when(subscriptionRepository.findAllByIdGreaterThanOrderByIdAsc(0L, Limit.of(1000))).thenReturn(List.of(sub1, sub2));
+        when(subscriptionMapper.toDtos(List.of(sub1, sub2))).thenReturn(subscriptionDtos);
+
+        List<SubscriptionDto> result = subscriptionService.getSubscriptionsAfter(0L, 50_000);
+
+        assertThat(result).isEqualTo(subscriptionDtos);
+        verify(subscriptionRepository).findAllByIdGreaterThanOrderByIdAsc(0L, Limit.of(1000));
+    }
+
     @Test
     void testFollow_Success() {
         Subscription subscription = buildSubscription(FIRST_SUBSCRIPTION_ID, FIRST_FOLLOWER_ID, FIRST_FOLLOWEE_ID);
@@ -1,13 +1,16 @@
 package com.merfonteen.likeservice.controller;
 
 import com.merfonteen.likeservice.dto.LikeResponse;
-import com.merfonteen.likeservice.dto.LikePageResponse;
+import com.merfonteen.likeservice.dto.LikeSliceResponse;
 import com.merfonteen.likeservice.dto.LikesSearchRequest;
+import com.merfonteen.likeservice.dto.PostLikeState;
 import com.merfonteen.likeservice.service.LikeService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
+import java.util.List;
+import java.util.Map;
 
 @RequestMapping("/api/likes")
 @RestController
@@ -20,7 +23,7 @@ public class LikeController {
     }
 
     @GetMapping("/posts/{id}")
-    public ResponseEntity<LikePageResponse> getLikesForPost(@PathVariable("id") Long postId,
+    public ResponseEntity<LikeSliceResponse> getLikesForPost(@PathVariable("id") Long postId,
                                                             LikesSearchRequest searchRequest) {
         return ResponseEntity.ok(likeService.getLikesForPost(postId, searchRequest));
     }
@@ -30,6 +33,17 @@ public class LikeController {
         return ResponseEntity.ok(likeService.getLikeCount(postId));
     }
 
+    @PostMapping("/posts/counts")
+    public ResponseEntity<Map<Long, Long>> getLikeCounts(@RequestBody List<Long> postIds) {
+        return ResponseEntity.ok(likeService.getLikeCounts(postIds));
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<List<PostLikeState>> getLikeStates(@RequestBody List<Long> postIds,
+                                                             @RequestHeader("X-User-Id") Long currentUserId) {
+        return ResponseEntity.ok(likeService.getLikeStates(postIds, currentUserId));
+    }
+
     @PostMapping("/posts/{id}")
     public ResponseEntity<LikeResponse> likePost(@PathVariable("id") Long postId,
                                                  @RequestHeader("X-User-Id") Long currentUserId) {
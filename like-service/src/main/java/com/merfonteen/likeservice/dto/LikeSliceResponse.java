@@ -12,14 +12,10 @@ import java.util.List;
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-public class LikePageResponse {
+public class LikeSliceResponse {
     private List<LikeResponse> likes;
-    @JsonProperty("current_page")
-    private Integer currentPage;
-    @JsonProperty("total_pages")
-    private Integer totalPages;
-    @JsonProperty("total_elements")
-    private Long totalElements;
-    @JsonProperty("is_last_page")
-    private Boolean isLastPage;
+    @JsonProperty("next_cursor")
+    private String nextCursor;
+    @JsonProperty("has_next")
+    private Boolean hasNext;
 }
@@ -10,8 +10,7 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @NoArgsConstructor
 public class LikesSearchRequest {
-    @Builder.Default
-    private int page = 0;
     @Builder.Default
     private int size = 10;
+    private String cursor;
 }
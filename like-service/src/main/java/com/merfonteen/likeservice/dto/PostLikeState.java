@@ -0,0 +1,16 @@
+package com.merfonteen.likeservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostLikeState {
+    private Long postId;
+    private Long likeCount;
+    private boolean likedByMe;
+}
@@ -0,0 +1,62 @@
+package com.merfonteen.likeservice.kafka.eventListener;
+
+import com.merfonteen.kafkaEvents.PostCreatedEvent;
+import com.merfonteen.kafkaEvents.PostRemovedEvent;
+import com.merfonteen.likeservice.service.impl.index.PostExistenceIndex;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Every instance keeps its own {@link PostExistenceIndex}, so these listeners use a per-instance group
+ * and see all partitions instead of sharing them with the other like-service instances.
+ * The group id is stable across restarts, but positions come from the snapshot: each assigned partition is
+ * sought to the offset stored with it, or to the beginning when the snapshot has none.
+ */
+@RequiredArgsConstructor
+@Component
+public class PostIndexEventListener implements ConsumerSeekAware {
+    private final PostExistenceIndex postExistenceIndex;
+
+    @KafkaListener(
+            topics = "${topic.post-created}",
+            groupId = "${like.post-index.group-id}",
+            containerFactory = "postCreatedContainerFactory"
+    )
+    public void indexCreatedPost(PostCreatedEvent event,
+                                 @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
+                                 @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
+                                 @Header(KafkaHeaders.OFFSET) long offset,
+                                 Acknowledgment ack) {
+        postExistenceIndex.add(event.getPostId(), new TopicPartition(topic, partition), offset);
+        ack.acknowledge();
+    }
+
+    @KafkaListener(
+            topics = "${topic.post-removed}",
+            groupId = "${like.post-index.group-id}",
+            containerFactory = "postRemovedContainerFactory"
+    )
+    public void unindexRemovedPost(PostRemovedEvent event,
+                                   @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
+                                   @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
+                                   @Header(KafkaHeaders.OFFSET) long offset,
+                                   Acknowledgment ack) {
+        postExistenceIndex.remove(event.getPostId(), new TopicPartition(topic, partition), offset);
+        ack.acknowledge();
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        assignments.keySet().forEach(partition -> postExistenceIndex.resumeOffset(partition).ifPresentOrElse(
+                offset -> callback.seek(partition.topic(), partition.partition(), offset),
+                () -> callback.seekToBeginning(partition.topic(), partition.partition())));
+    }
+}
@@ -2,13 +2,11 @@ package com.merfonteen.likeservice.kafka.eventProducer;
 
 import com.merfonteen.kafkaEvents.LikeRemovedEvent;
 import com.merfonteen.kafkaEvents.LikeSentEvent;
+import com.merfonteen.outbox.OutboxMessage;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
-@Slf4j
 @RequiredArgsConstructor
 @Component
 public class LikeEventProducer {
@@ -19,15 +17,11 @@ public class LikeEventProducer {
     @Value("${topic.like-removed}")
     private String likeRemovedTopic;
 
-    private final KafkaTemplate<String, Object> kafkaTemplate;
-
-    public void sendLikeSentEvent(LikeSentEvent event) {
-        kafkaTemplate.send(likeSentTopic, event.getLikeId().toString(), event);
-        log.info("New message was sent to topic='{}' successfully: {}", likeSentTopic, event);
+    public OutboxMessage buildLikeSentMessage(LikeSentEvent event) {
+        return new OutboxMessage(likeSentTopic, event.getLikeId().toString(), event);
     }
 
-    public void sendLikeRemovedEvent(LikeRemovedEvent event) {
-        kafkaTemplate.send(likeRemovedTopic, event.getLikeId().toString(), event);
-        log.info("New message was sent to topic='{}' successfully: {}", likeRemovedTopic, event);
+    public OutboxMessage buildLikeRemovedMessage(LikeRemovedEvent event) {
+        return new OutboxMessage(likeRemovedTopic, event.getLikeId().toString(), event);
     }
 }
@@ -0,0 +1,44 @@
+package com.merfonteen.likeservice.mapper;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.merfonteen.kafkaEvents.LikeRemovedEvent;
+import com.merfonteen.kafkaEvents.LikeSentEvent;
+import com.merfonteen.likeservice.model.Like;
+import com.merfonteen.likeservice.model.enums.OutboxEventType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Component
+public class OutboxEventMapper {
+    private final ObjectMapper objectMapper;
+
+    public String mapToJson(Like like, OutboxEventType eventType) {
+        Object event = switch (eventType) {
+            case LIKE_SENT -> new LikeSentEvent(like.getId(), like.getUserId(), like.getPostId());
+            case LIKE_REMOVED -> new LikeRemovedEvent(like.getId(), like.getUserId(), like.getPostId());
+        };
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public LikeSentEvent mapLikeSentEventFromJson(String json) {
+        try {
+            return objectMapper.readValue(json, LikeSentEvent.class);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to parse LikeSentEvent from JSON", e);
+        }
+    }
+
+    public LikeRemovedEvent mapLikeRemovedEventFromJson(String json) {
+        try {
+            return objectMapper.readValue(json, LikeRemovedEvent.class);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to parse LikeRemovedEvent from JSON", e);
+        }
+    }
+}
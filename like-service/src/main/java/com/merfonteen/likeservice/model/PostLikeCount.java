@@ -0,0 +1,6 @@
+package com.merfonteen.likeservice.model;
+
+public interface PostLikeCount {
+    Long getPostId();
+    Long getCount();
+}
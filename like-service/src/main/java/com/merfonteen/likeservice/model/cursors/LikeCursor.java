@@ -0,0 +1,6 @@
+package com.merfonteen.likeservice.model.cursors;
+
+import java.time.Instant;
+
+public record LikeCursor(Instant createdAt, long id) {
+}
@@ -0,0 +1,5 @@
+package com.merfonteen.likeservice.model.enums;
+
+public enum OutboxEventType {
+    LIKE_SENT, LIKE_REMOVED
+}
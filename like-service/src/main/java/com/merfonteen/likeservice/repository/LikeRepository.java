@@ -1,18 +1,104 @@
 package com.merfonteen.likeservice.repository;
 
 import com.merfonteen.likeservice.model.Like;
-import org.springframework.data.domain.Page;
+import com.merfonteen.likeservice.model.PostLikeCount;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface LikeRepository extends JpaRepository<Like, Long> {
-    Page<Like> findAllByPostId(Long postId, Pageable pageable);
+    @Query("SELECT l FROM Like l WHERE l.postId = :postId ORDER BY l.createdAt DESC, l.id DESC")
+    Slice<Like> findLatestByPostId(@Param("postId") Long postId, Pageable pageable);
+
+    @Query("""
+            SELECT l FROM Like l
+            WHERE l.postId = :postId
+            AND (l.createdAt < :createdAt OR (l.createdAt = :createdAt AND l.id < :id))
+            ORDER BY l.createdAt DESC, l.id DESC
+            """)
+    Slice<Like> findByPostIdAfterCursor(@Param("postId") Long postId,
+                                        @Param("createdAt") Instant createdAt,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+
     Optional<Like> findByPostIdAndUserId(Long postId, Long currentUserId);
-    int deleteAllByPostId(Long postId);
-    long countByPostId(Long postId);
+
+    @Query(value = """
+            SELECT COALESCE((SELECT like_count FROM like_service.post_like_counts WHERE post_id = :postId), 0)
+            """, nativeQuery = true)
+    long findAggregatedCount(@Param("postId") Long postId);
+
+    @Query(value = """
+            SELECT post_id AS postId, like_count AS count
+            FROM like_service.post_like_counts
+            WHERE post_id IN :postIds
+            """, nativeQuery = true)
+    List<PostLikeCount> findAggregatedCounts(@Param("postIds") Collection<Long> postIds);
+
+    @Query(value = "SELECT post_id FROM like_service.likes WHERE user_id = :userId AND post_id = ANY(:postIds)",
+            nativeQuery = true)
+    List<Long> findLikedPostIds(@Param("userId") Long userId, @Param("postIds") long[] postIds);
+
+    @Transactional
+    @Query(value = """
+            INSERT INTO like_service.post_like_counts (post_id, like_count)
+            SELECT d.post_id, d.delta
+            FROM unnest(:postIds, :deltas) AS d(post_id, delta)
+            WHERE (d.delta > 0
+               OR EXISTS (SELECT 1 FROM like_service.post_like_counts c WHERE c.post_id = d.post_id))
+              AND NOT EXISTS (SELECT 1 FROM like_service.removed_posts r WHERE r.post_id = d.post_id)
+            ON CONFLICT (post_id) DO UPDATE
+            SET like_count = GREATEST(post_like_counts.like_count + EXCLUDED.like_count, 0),
+                updated_at = NOW()
+            RETURNING post_id AS postId, like_count AS count
+            """, nativeQuery = true)
+    List<PostLikeCount> upsertLikeCounts(@Param("postIds") long[] postIds, @Param("deltas") long[] deltas);
+
+    @Query(value = """
+            SELECT post_id FROM (
+                SELECT post_id FROM like_service.post_like_counts WHERE post_id > :afterPostId
+                UNION
+                SELECT post_id FROM like_service.likes WHERE post_id > :afterPostId
+            ) ids
+            ORDER BY post_id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Long> findCountedPostIdsAfter(@Param("afterPostId") long afterPostId, @Param("limit") int limit);
+
+    @Transactional
+    @Query(value = """
+            WITH recounted AS (
+                SELECT p.post_id, (SELECT COUNT(*) FROM like_service.likes l WHERE l.post_id = p.post_id) AS like_count
+                FROM unnest(:postIds) AS p(post_id)
+                WHERE NOT EXISTS (SELECT 1 FROM like_service.post_like_counts c
+                                  WHERE c.post_id = p.post_id AND c.updated_at > :settledBefore)
+                  AND NOT EXISTS (SELECT 1 FROM like_service.likes l
+                                  WHERE l.post_id = p.post_id AND l.created_at > :settledBefore)
+                  AND NOT EXISTS (SELECT 1 FROM like_service.removed_posts r WHERE r.post_id = p.post_id)
+            )
+            INSERT INTO like_service.post_like_counts (post_id, like_count)
+            SELECT post_id, like_count FROM recounted
+            ON CONFLICT (post_id) DO UPDATE
+            SET like_count = EXCLUDED.like_count,
+                updated_at = NOW()
+            WHERE post_like_counts.like_count <> EXCLUDED.like_count
+            RETURNING post_id
+            """, nativeQuery = true)
+    List<Long> recountLikeCounts(@Param("postIds") long[] postIds, @Param("settledBefore") Instant settledBefore);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM like_service.post_like_counts WHERE post_id = :postId", nativeQuery = true)
+    int deleteLikeCountByPostId(@Param("postId") Long postId);
 }
@@ -0,0 +1,9 @@
+package com.merfonteen.likeservice.repository;
+
+import com.merfonteen.likeservice.model.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+}
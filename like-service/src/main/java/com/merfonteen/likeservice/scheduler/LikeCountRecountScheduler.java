@@ -0,0 +1,53 @@
+package com.merfonteen.likeservice.scheduler;
+
+import com.merfonteen.likeservice.repository.LikeRepository;
+import com.merfonteen.likeservice.service.impl.redis.RedisCounter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Rebuilds {@code post_like_counts} from the likes table to repair deltas lost when an instance died before flushing.
+ * Posts liked or flushed within the grace period are skipped, since their deltas may still be buffered somewhere.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class LikeCountRecountScheduler {
+    private static final int BATCH_SIZE = 1_000;
+
+    private final RedisCounter redisCounter;
+    private final LikeRepository likeRepository;
+
+    @Value("${like.counter.recount-grace}")
+    private Duration recountGrace;
+
+    @Scheduled(cron = "${like.counter.recount-cron}")
+    public void recountLikeCounts() {
+        int scanned = 0, corrected = 0;
+        long afterPostId = 0;
+        List<Long> postIds;
+        do {
+            postIds = likeRepository.findCountedPostIdsAfter(afterPostId, BATCH_SIZE);
+            if (postIds.isEmpty()) {
+                break;
+            }
+            List<Long> correctedPostIds = likeRepository.recountLikeCounts(
+                    postIds.stream().mapToLong(Long::longValue).toArray(), Instant.now().minus(recountGrace));
+            if (!correctedPostIds.isEmpty()) {
+                redisCounter.evictCounters(correctedPostIds);
+            }
+            scanned += postIds.size();
+            corrected += correctedPostIds.size();
+            afterPostId = postIds.getLast();
+        } while (postIds.size() == BATCH_SIZE);
+
+        log.info("Like count recount: corrected {} of {} posts", corrected, scanned);
+    }
+}
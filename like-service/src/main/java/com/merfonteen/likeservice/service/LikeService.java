@@ -2,15 +2,23 @@ package com.merfonteen.likeservice.service;
 
 import com.merfonteen.kafkaEvents.PostRemovedEvent;
 import com.merfonteen.likeservice.dto.LikeResponse;
-import com.merfonteen.likeservice.dto.LikePageResponse;
+import com.merfonteen.likeservice.dto.LikeSliceResponse;
 import com.merfonteen.likeservice.dto.LikesSearchRequest;
+import com.merfonteen.likeservice.dto.PostLikeState;
+
+import java.util.List;
+import java.util.Map;
 
 public interface LikeService {
 
-    LikePageResponse getLikesForPost(Long postId, LikesSearchRequest searchRequest);
+    LikeSliceResponse getLikesForPost(Long postId, LikesSearchRequest searchRequest);
 
     Long getLikeCount(Long postId);
 
+    Map<Long, Long> getLikeCounts(List<Long> postIds);
+
+    List<PostLikeState> getLikeStates(List<Long> postIds, Long currentUserId);
+
     LikeResponse likePost(Long postId, Long currentUserId);
 
     LikeResponse removeLike(Long postId, Long currentUserId);
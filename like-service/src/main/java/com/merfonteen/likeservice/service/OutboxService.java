@@ -0,0 +1,54 @@
+package com.merfonteen.likeservice.service;
+
+import com.merfonteen.likeservice.kafka.eventProducer.LikeEventProducer;
+import com.merfonteen.likeservice.mapper.OutboxEventMapper;
+import com.merfonteen.likeservice.model.Like;
+import com.merfonteen.likeservice.model.OutboxEvent;
+import com.merfonteen.likeservice.model.enums.OutboxEventType;
+import com.merfonteen.likeservice.repository.OutboxEventRepository;
+import com.merfonteen.outbox.OutboxEventRouter;
+import com.merfonteen.outbox.OutboxMessage;
+import com.merfonteen.outbox.OutboxRecord;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+
+@RequiredArgsConstructor
+@Service
+public class OutboxService implements OutboxEventRouter {
+    private final OutboxEventMapper mapper;
+    private final OutboxEventRepository repository;
+    private final LikeEventProducer likeEventProducer;
+
+    @Override
+    public OutboxMessage route(OutboxRecord record) {
+        OutboxEventType eventType;
+        try {
+            eventType = OutboxEventType.valueOf(record.eventType());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        return switch (eventType) {
+            case LIKE_SENT -> likeEventProducer.buildLikeSentMessage(
+                    mapper.mapLikeSentEventFromJson(record.payload()));
+            case LIKE_REMOVED -> likeEventProducer.buildLikeRemovedMessage(
+                    mapper.mapLikeRemovedEventFromJson(record.payload()));
+        };
+    }
+
+    @Transactional
+    public OutboxEvent create(Like like, OutboxEventType eventType) {
+        OutboxEvent outboxEvent = OutboxEvent.builder()
+                .aggregateType("Like")
+                .aggregateId(like.getId())
+                .eventType(eventType)
+                .sent(false)
+                .payload(mapper.mapToJson(like, eventType))
+                .createdAt(Instant.now())
+                .build();
+
+        return repository.save(outboxEvent);
+    }
+}
@@ -2,54 +2,78 @@ package com.merfonteen.likeservice.service.impl;
 
 import com.merfonteen.exceptions.BadRequestException;
 import com.merfonteen.exceptions.NotFoundException;
-import com.merfonteen.kafkaEvents.LikeRemovedEvent;
-import com.merfonteen.kafkaEvents.LikeSentEvent;
 import com.merfonteen.kafkaEvents.PostRemovedEvent;
 import com.merfonteen.likeservice.client.PostClient;
-import com.merfonteen.likeservice.dto.LikePageResponse;
 import com.merfonteen.likeservice.dto.LikeResponse;
+import com.merfonteen.likeservice.dto.LikeSliceResponse;
 import com.merfonteen.likeservice.dto.LikesSearchRequest;
-import com.merfonteen.likeservice.kafka.eventProducer.LikeEventProducer;
+import com.merfonteen.likeservice.dto.PostLikeState;
 import com.merfonteen.likeservice.mapper.LikeMapper;
 import com.merfonteen.likeservice.model.Like;
+import com.merfonteen.likeservice.model.PostLikeCount;
+import com.merfonteen.likeservice.model.cursors.LikeCursor;
+import com.merfonteen.likeservice.model.enums.OutboxEventType;
 import com.merfonteen.likeservice.repository.LikeRepository;
 import com.merfonteen.likeservice.service.LikeService;
+import com.merfonteen.likeservice.service.OutboxService;
+import com.merfonteen.likeservice.service.impl.counter.LikeCountAggregator;
+import com.merfonteen.likeservice.service.impl.index.PostExistenceIndex;
 import com.merfonteen.likeservice.service.impl.redis.LikeRateLimiter;
 import com.merfonteen.likeservice.service.impl.redis.RedisCounter;
+import com.merfonteen.likeservice.util.CursorCodec;
+import com.merfonteen.tombstone.PostTombstonePurger;
 import feign.FeignException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Primary;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Slf4j
 @Primary
 @RequiredArgsConstructor
 @Service
 public class LikeServiceImpl implements LikeService {
+    private static final int MAX_BATCH_SIZE = 100;
+
     private final PostClient postClient;
     private final LikeMapper likeMapper;
+    private final CursorCodec cursorCodec;
+    private final OutboxService outboxService;
     private final RedisCounter redisCounter;
     private final LikeRepository likeRepository;
     private final LikeRateLimiter likeRateLimiter;
-    private final LikeEventProducer likeEventProducer;
+    private final LikeCountAggregator likeCountAggregator;
+    private final PostExistenceIndex postExistenceIndex;
+    private final PostTombstonePurger postTombstonePurger;
 
     @Override
-    public LikePageResponse getLikesForPost(Long postId, LikesSearchRequest searchRequest) {
+    public LikeSliceResponse getLikesForPost(Long postId, LikesSearchRequest searchRequest) {
         checkPostExistsOrThrowException(postId);
 
-        PageRequest pageRequest = likeMapper.buildPageRequest(searchRequest);
-        Page<Like> likesPage = likeRepository.findAllByPostId(postId, pageRequest);
-        List<LikeResponse> likesForPost = likeMapper.toDtos(likesPage.getContent());
+        Pageable page = Pageable.ofSize(Math.min(Math.max(searchRequest.getSize(), 1), MAX_BATCH_SIZE));
+        Optional<LikeCursor> cursor = cursorCodec.decodeLikeCursor(searchRequest.getCursor());
+
+        Slice<Like> likes = cursor.isEmpty()
+                ? likeRepository.findLatestByPostId(postId, page)
+                : likeRepository.findByPostIdAfterCursor(postId, cursor.get().createdAt(), cursor.get().id(), page);
 
-        return likeMapper.buildLikePageResponse(likesForPost, likesPage);
+        String nextCursor = likes.hasNext() && likes.hasContent()
+                ? cursorCodec.encodeLikeCursor(likes.getContent().getLast().getCreatedAt(), likes.getContent().getLast().getId())
+                : null;
+
+        return likeMapper.buildLikeSliceResponse(likeMapper.toDtos(likes.getContent()), nextCursor);
     }
 
     @Override
@@ -60,12 +84,68 @@ public class LikeServiceImpl implements LikeService {
             return Long.parseLong(cachedValue);
         }
 
-        long countFromDb = likeRepository.countByPostId(postId);
+        long countFromDb = likeRepository.findAggregatedCount(postId);
         redisCounter.setCounter(postId, countFromDb);
 
         return countFromDb;
     }
 
+    @Override
+    public Map<Long, Long> getLikeCounts(List<Long> postIds) {
+        if (postIds.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException(String.format("Batch size must not exceed %d", MAX_BATCH_SIZE));
+        }
+
+        List<Long> distinctPostIds = postIds.stream().distinct().toList();
+        if (distinctPostIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Long> counts = new LinkedHashMap<>();
+        List<Long> missedPostIds = new ArrayList<>();
+        List<String> cachedValues = redisCounter.getCachedValues(distinctPostIds);
+
+        for (int i = 0; i < distinctPostIds.size(); i++) {
+            String cachedValue = cachedValues.get(i);
+            if (cachedValue != null) {
+                counts.put(distinctPostIds.get(i), Long.parseLong(cachedValue));
+            } else {
+                missedPostIds.add(distinctPostIds.get(i));
+            }
+        }
+
+        if (!missedPostIds.isEmpty()) {
+            Map<Long, Long> countsFromDb = new LinkedHashMap<>();
+            missedPostIds.forEach(postId -> countsFromDb.put(postId, 0L));
+            for (PostLikeCount postLikeCount : likeRepository.findAggregatedCounts(missedPostIds)) {
+                countsFromDb.put(postLikeCount.getPostId(), postLikeCount.getCount());
+            }
+            redisCounter.setCounters(countsFromDb);
+            counts.putAll(countsFromDb);
+        }
+
+        return counts;
+    }
+
+    @Override
+    public List<PostLikeState> getLikeStates(List<Long> postIds, Long currentUserId) {
+        Map<Long, Long> counts = getLikeCounts(postIds);
+        if (counts.isEmpty()) {
+            return List.of();
+        }
+
+        long[] ids = counts.keySet().stream().mapToLong(Long::longValue).toArray();
+        Set<Long> likedPostIds = new HashSet<>(likeRepository.findLikedPostIds(currentUserId, ids));
+
+        return counts.entrySet().stream()
+                .map(entry -> PostLikeState.builder()
+                        .postId(entry.getKey())
+                        .likeCount(entry.getValue())
+                        .likedByMe(likedPostIds.contains(entry.getKey()))
+                        .build())
+                .toList();
+    }
+
     @Transactional
     @Override
     public LikeResponse likePost(Long postId, Long currentUserId) {
@@ -87,15 +167,9 @@ public class LikeServiceImpl implements LikeService {
         Like savedLike = likeRepository.save(newLike);
         log.info("New like with id '{}' was saved successfully", savedLike.getId());
 
-        redisCounter.incrementCounter(postId);
+        likeCountAggregator.increment(postId);
 
-        LikeSentEvent likeSentEvent = LikeSentEvent.builder()
-                .likeId(newLike.getId())
-                .userId(currentUserId)
-                .postId(postId)
-                .build();
-
-        likeEventProducer.sendLikeSentEvent(likeSentEvent);
+        outboxService.create(savedLike, OutboxEventType.LIKE_SENT);
 
         return likeMapper.toDto(savedLike);
     }
@@ -115,16 +189,9 @@ public class LikeServiceImpl implements LikeService {
         likeRepository.delete(likeToRemove.get());
         log.info("Like with id '{}' was removed", likeToRemove.get().getId());
 
-        redisCounter.decrementCounter(postId);
+        likeCountAggregator.decrement(postId);
 
-        LikeRemovedEvent likeRemovedEvent = LikeRemovedEvent.builder()
-                .likeId(likeToRemove.get().getId())
-                .userId(currentUserId)
-                .postId(postId)
-                .build();
-
-        likeEventProducer.sendLikeRemovedEvent(likeRemovedEvent);
-        log.info("New message was sent to topic 'like-removed' successfully: {}", likeRemovedEvent);
+        outboxService.create(likeToRemove.get(), OutboxEventType.LIKE_REMOVED);
 
         return likeMapper.toDto(likeToRemove.get());
     }
@@ -132,17 +199,25 @@ public class LikeServiceImpl implements LikeService {
     @Transactional
     @Override
     public void removeLikesOnPost(PostRemovedEvent event) {
-        int deleted = likeRepository.deleteAllByPostId(event.getPostId());
-        log.info("Deleted {} likes for postId={}", deleted, event.getPostId());
+        if (postTombstonePurger.tombstone(event.getPostId())) {
+            log.info("Scheduled likes of postId={} for purge", event.getPostId());
+        }
+        likeCountAggregator.discard(event.getPostId());
+        likeRepository.deleteLikeCountByPostId(event.getPostId());
+        redisCounter.evictCounters(List.of(event.getPostId()));
     }
 
     private void checkPostExistsOrThrowException(Long postId) {
+        if (postExistenceIndex.contains(postId)) {
+            return;
+        }
         try {
             postClient.checkPostExists(postId);
         } catch (FeignException.NotFound e) {
             log.warn("Exception during interaction with post-client: post with id '{}' not found", postId);
             throw new NotFoundException(String.format("Post with id '%d' not found", postId));
         }
+        postExistenceIndex.add(postId);
     }
 }
 
@@ -0,0 +1,132 @@
+package com.merfonteen.likeservice.service.impl.counter;
+
+import com.merfonteen.likeservice.model.PostLikeCount;
+import com.merfonteen.likeservice.repository.LikeRepository;
+import com.merfonteen.likeservice.service.impl.redis.RedisCounter;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Buffers like count changes in memory and writes them behind in one batch per flush:
+ * a single multi-row UPSERT into {@code post_like_counts}, then one pipelined SET of the resulting totals into Redis.
+ * The database is written first and Redis receives absolute values, so a cache miss in between is never counted twice.
+ * Write traffic therefore grows with the number of distinct posts liked between flushes, not with the number of likes.
+ * Changes made inside a transaction are buffered only after it commits, so rolled back likes never reach the counters.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class LikeCountAggregator {
+    private final RedisCounter redisCounter;
+    private final LikeRepository likeRepository;
+
+    private final Map<Long, LongAdder> deltas = new ConcurrentHashMap<>();
+
+    public void increment(Long postId) {
+        addAfterCommit(postId, 1);
+    }
+
+    public void decrement(Long postId) {
+        addAfterCommit(postId, -1);
+    }
+
+    @Scheduled(fixedDelayString = "${like.counter.flush-interval}")
+    public void flush() {
+        Map<Long, Long> pending = drain();
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        long[] postIds = new long[pending.size()];
+        long[] postDeltas = new long[pending.size()];
+        int i = 0;
+        for (Map.Entry<Long, Long> entry : pending.entrySet()) {
+            postIds[i] = entry.getKey();
+            postDeltas[i++] = entry.getValue();
+        }
+
+        List<PostLikeCount> persisted;
+        try {
+            persisted = likeRepository.upsertLikeCounts(postIds, postDeltas);
+        } catch (Exception e) {
+            log.error("Failed to persist like counts for {} posts, retrying on next flush: {}", pending.size(), e.getMessage());
+            pending.forEach(this::add);
+            return;
+        }
+
+        try {
+            redisCounter.setCounters(persisted.stream()
+                    .collect(Collectors.toMap(PostLikeCount::getPostId, PostLikeCount::getCount)));
+        } catch (Exception e) {
+            log.warn("Failed to refresh cached like counts for {} posts, evicting them: {}", persisted.size(), e.getMessage());
+            evictQuietly(pending.keySet());
+        }
+        log.debug("Flushed like count deltas for {} posts", pending.size());
+    }
+
+    /**
+     * Drops the buffered delta of a removed post, so the next flush does not recreate its counter row.
+     */
+    public void discard(Long postId) {
+        deltas.remove(postId);
+    }
+
+    private void evictQuietly(Collection<Long> postIds) {
+        try {
+            redisCounter.evictCounters(postIds);
+        } catch (Exception e) {
+            log.warn("Failed to evict cached like counts for {} posts: {}", postIds.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void addAfterCommit(Long postId, long delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add(postId, delta);
+                }
+            });
+            return;
+        }
+        add(postId, delta);
+    }
+
+    private void add(Long postId, long delta) {
+        deltas.computeIfAbsent(postId, id -> new LongAdder()).add(delta);
+    }
+
+    private Map<Long, Long> drain() {
+        Map<Long, Long> pending = new HashMap<>();
+        for (Map.Entry<Long, LongAdder> entry : deltas.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta != 0) {
+                pending.put(entry.getKey(), delta);
+            } else if (deltas.remove(entry.getKey(), entry.getValue())) {
+                long late = entry.getValue().sumThenReset();
+                if (late != 0) {
+                    pending.put(entry.getKey(), late);
+                }
+            }
+        }
+        return pending;
+    }
+}
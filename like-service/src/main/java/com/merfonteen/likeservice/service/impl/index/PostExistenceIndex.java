@@ -0,0 +1,202 @@
+package com.merfonteen.likeservice.service.impl.index;
+
+import com.merfonteen.tombstone.PostTombstonePurger;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process set of live post ids kept as a compressed 64-bit roaring bitmap.
+ * It is fed by the post-created and post-removed topics and snapshotted to disk so a restart does not start empty.
+ * The two topics are replayed independently, so removed ids are also kept in a second bitmap, seeded from
+ * {@code removed_posts} on startup, and a created event for a removed post never puts it back.
+ * The snapshot also stores the next offset of every consumed partition, taken under the same lock as the ids,
+ * so a restart resumes both topics exactly where the snapshot left off.
+ */
+@Slf4j
+@Component
+public class PostExistenceIndex {
+    private final Roaring64NavigableMap postIds = new Roaring64NavigableMap();
+    private final Roaring64NavigableMap removedPostIds = new Roaring64NavigableMap();
+    private final Map<TopicPartition, Long> consumedOffsets = new HashMap<>();
+    private final PostTombstonePurger postTombstonePurger;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Path snapshotPath;
+
+    private volatile boolean dirty;
+
+    public PostExistenceIndex(PostTombstonePurger postTombstonePurger,
+                              @Value("${like.post-index.snapshot-path}") String snapshotPath) {
+        this.postTombstonePurger = postTombstonePurger;
+        this.snapshotPath = Path.of(snapshotPath);
+    }
+
+    public boolean contains(long postId) {
+        lock.readLock().lock();
+        try {
+            return postIds.contains(postId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void add(long postId) {
+        lock.writeLock().lock();
+        try {
+            addLocked(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Applies a post-created record and remembers the offset after it, so the next snapshot resumes past it.
+     */
+    public void add(long postId, TopicPartition source, long offset) {
+        lock.writeLock().lock();
+        try {
+            addLocked(postId);
+            consumedOffsets.put(source, offset + 1);
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long postId, TopicPartition source, long offset) {
+        lock.writeLock().lock();
+        try {
+            postIds.removeLong(postId);
+            removedPostIds.addLong(postId);
+            consumedOffsets.put(source, offset + 1);
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Offset to resume the partition from, matching the loaded snapshot; empty means replay from the beginning.
+     */
+    public Optional<Long> resumeOffset(TopicPartition partition) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(consumedOffsets.get(partition));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addLocked(long postId) {
+        if (removedPostIds.contains(postId)) {
+            return;
+        }
+        postIds.addLong(postId);
+        dirty = true;
+    }
+
+    @PostConstruct
+    public void load() {
+        loadSnapshot();
+        loadTombstones();
+    }
+
+    private void loadSnapshot() {
+        if (!Files.exists(snapshotPath)) {
+            return;
+        }
+        lock.writeLock().lock();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotPath)))) {
+            postIds.deserialize(in);
+            readOffsets(in);
+            log.info("Loaded {} post ids and {} partition offsets from snapshot {}",
+                    postIds.getLongCardinality(), consumedOffsets.size(), snapshotPath);
+        } catch (IOException e) {
+            log.warn("Failed to load post index snapshot {}, starting empty: {}", snapshotPath, e.getMessage());
+            postIds.clear();
+            consumedOffsets.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void loadTombstones() {
+        lock.writeLock().lock();
+        try {
+            postTombstonePurger.forEachTombstone(postId -> {
+                removedPostIds.addLong(postId);
+                postIds.removeLong(postId);
+            });
+            dirty = true;
+            log.info("Loaded {} removed post ids from tombstones", removedPostIds.getLongCardinality());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${like.post-index.snapshot-interval}")
+    public void writeSnapshot() {
+        if (!dirty) {
+            return;
+        }
+        lock.readLock().lock();
+        try {
+            dirty = false;
+            Files.createDirectories(snapshotPath.toAbsolutePath().getParent());
+            Path tmp = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                postIds.serialize(out);
+                writeOffsets(out);
+            }
+            Files.move(tmp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            dirty = true;
+            log.warn("Failed to write post index snapshot {}: {}", snapshotPath, e.getMessage());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void writeOffsets(DataOutputStream out) throws IOException {
+        out.writeInt(consumedOffsets.size());
+        for (Map.Entry<TopicPartition, Long> entry : consumedOffsets.entrySet()) {
+            out.writeUTF(entry.getKey().topic());
+            out.writeInt(entry.getKey().partition());
+            out.writeLong(entry.getValue());
+        }
+    }
+
+    private void readOffsets(DataInputStream in) throws IOException {
+        int count;
+        try {
+            count = in.readInt();
+        } catch (EOFException e) {
+            // Snapshot written before offsets were stored: keep the ids, but replay the topics from the beginning.
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            consumedOffsets.put(new TopicPartition(in.readUTF(), in.readInt()), in.readLong());
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package com.merfonteen.likeservice.service.impl.redis;
 
 import com.merfonteen.exceptions.TooManyRequestsException;
-import lombok.RequiredArgsConstructor;
+import com.merfonteen.ratelimit.SlidingWindowRateLimiter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
@@ -9,34 +9,30 @@ import org.springframework.stereotype.Component;
 import java.time.Duration;
 
 @Slf4j
-@RequiredArgsConstructor
 @Component
 public class LikeRateLimiter {
-
-    private final StringRedisTemplate redisTemplate;
-
     private static final int MAX_LIKES = 10;
     private static final Duration DURATION = Duration.ofSeconds(5);
 
+    private final SlidingWindowRateLimiter likeLimiter;
+    private final SlidingWindowRateLimiter unlikeLimiter;
+
+    public LikeRateLimiter(StringRedisTemplate redisTemplate) {
+        this.likeLimiter = new SlidingWindowRateLimiter(redisTemplate, "like-limiter::user::", MAX_LIKES, DURATION);
+        this.unlikeLimiter = new SlidingWindowRateLimiter(redisTemplate, "unlike-limiter::user::", MAX_LIKES, DURATION);
+    }
+
     public void limitAmountOfLikes(Long userId) {
-        String key = "like-limiter::user::" + userId;
-        limit(key, "like", userId);
+        limit(likeLimiter, "like", userId);
     }
 
     public void limitAmountOfUnlikes(Long userId) {
-        String key = "unlike-limiter::user::" + userId;
-        limit(key, "unlike", userId);
+        limit(unlikeLimiter, "unlike", userId);
     }
 
-    private void limit(String key, String actionLabel, Long userId) {
-        Long count = redisTemplate.opsForValue().increment(key);
-
-        if(count == 1) {
-            redisTemplate.expire(key, DURATION);
-        }
-
-        if(count > MAX_LIKES) {
-            log.warn("Too many likes per {}s for user '{}'", DURATION.getSeconds(), userId);
+    private void limit(SlidingWindowRateLimiter limiter, String actionLabel, Long userId) {
+        if (!limiter.tryAcquire(userId)) {
+            log.warn("Too many {}s per {}s for user '{}'", actionLabel, DURATION.getSeconds(), userId);
             throw new TooManyRequestsException("You have exceeded the allowed number of " + actionLabel + "s");
         }
     }
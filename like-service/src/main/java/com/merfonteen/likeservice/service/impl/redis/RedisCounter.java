@@ -1,10 +1,15 @@
 package com.merfonteen.likeservice.service.impl.redis;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 @RequiredArgsConstructor
 @Component
@@ -17,17 +22,24 @@ public class RedisCounter {
         return stringRedisTemplate.opsForValue().get(CACHE_KEY + postId);
     }
 
+    public List<String> getCachedValues(List<Long> postIds) {
+        return stringRedisTemplate.opsForValue().multiGet(postIds.stream().map(id -> CACHE_KEY + id).toList());
+    }
+
     public void setCounter(Long postId, Long count) {
         stringRedisTemplate.opsForValue().set(CACHE_KEY + postId, String.valueOf(count), Duration.ofMinutes(10));
     }
 
-    public void incrementCounter(Long postId) {
-        stringRedisTemplate.opsForValue().increment(CACHE_KEY + postId);
+    public void setCounters(Map<Long, Long> counts) {
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            counts.forEach((postId, count) ->
+                    stringConnection.setEx(CACHE_KEY + postId, Duration.ofMinutes(10).toSeconds(), String.valueOf(count)));
+            return null;
+        });
     }
 
-    public void decrementCounter(Long postId) {
-        if (stringRedisTemplate.hasKey(CACHE_KEY + postId)) {
-            stringRedisTemplate.opsForValue().decrement(CACHE_KEY + postId);
-        }
+    public void evictCounters(Collection<Long> postIds) {
+        stringRedisTemplate.delete(postIds.stream().map(id -> CACHE_KEY + id).toList());
     }
 }
@@ -0,0 +1,41 @@
+CREATE TABLE like_service.outbox_events
+(
+    id             BIGSERIAL NOT NULL,
+    aggregate_type VARCHAR   NOT NULL,
+    aggregate_id   BIGINT    NOT NULL,
+    event_type     VARCHAR   NOT NULL,
+    payload        JSONB     NOT NULL,
+    sent           BOOLEAN   NOT NULL DEFAULT FALSE,
+    created_at     TIMESTAMP NOT NULL DEFAULT NOW(),
+
+    CONSTRAINT pk_outbox_events PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE like_service.outbox_events_default PARTITION OF like_service.outbox_events DEFAULT;
+
+DO
+$$
+    DECLARE
+        day DATE;
+    BEGIN
+        FOR day IN SELECT generate_series(current_date, current_date + 7, INTERVAL '1 day')::date
+            LOOP
+                EXECUTE format(
+                        'CREATE TABLE like_service.%I PARTITION OF like_service.outbox_events FOR VALUES FROM (%L) TO (%L)',
+                        'outbox_events_p' || to_char(day, 'YYYYMMDD'), day, day + 1);
+            END LOOP;
+    END
+$$;
+
+CREATE INDEX idx_outbox_events_unsent_id ON like_service.outbox_events (id) WHERE sent = FALSE;
+
+CREATE OR REPLACE FUNCTION like_service.notify_outbox_events() RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM pg_notify('like_service_outbox', '');
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_outbox_events_notify
+    AFTER INSERT ON like_service.outbox_events
+    FOR EACH STATEMENT EXECUTE FUNCTION like_service.notify_outbox_events();
@@ -0,0 +1,11 @@
+CREATE TABLE like_service.post_like_counts
+(
+    post_id    BIGINT    PRIMARY KEY,
+    like_count BIGINT    NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+INSERT INTO like_service.post_like_counts (post_id, like_count)
+SELECT post_id, COUNT(*)
+FROM like_service.likes
+GROUP BY post_id;
@@ -0,0 +1,9 @@
+CREATE TABLE like_service.removed_posts
+(
+    post_id      BIGINT PRIMARY KEY,
+    removed_at   TIMESTAMP NOT NULL DEFAULT NOW(),
+    purged_at    TIMESTAMP,
+    deleted_rows BIGINT    NOT NULL DEFAULT 0
+);
+
+CREATE INDEX idx_removed_posts_pending ON like_service.removed_posts (removed_at) WHERE purged_at IS NULL;
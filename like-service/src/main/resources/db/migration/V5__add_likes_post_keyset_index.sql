@@ -0,0 +1,3 @@
+CREATE INDEX idx_likes_post_id_created_at_id ON like_service.likes (post_id, created_at DESC, id DESC) INCLUDE (user_id);
+
+DROP INDEX IF EXISTS like_service.idx_likes_post_id;
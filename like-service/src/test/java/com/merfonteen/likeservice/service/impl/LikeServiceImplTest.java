@@ -2,33 +2,44 @@ package com.merfonteen.likeservice.service.impl;
 
 import com.merfonteen.exceptions.BadRequestException;
 import com.merfonteen.exceptions.NotFoundException;
+import com.merfonteen.kafkaEvents.PostRemovedEvent;
 import com.merfonteen.likeservice.client.PostClient;
-import com.merfonteen.likeservice.dto.LikePageResponse;
 import com.merfonteen.likeservice.dto.LikeResponse;
+import com.merfonteen.likeservice.dto.LikeSliceResponse;
 import com.merfonteen.likeservice.dto.LikesSearchRequest;
-import com.merfonteen.likeservice.kafka.eventProducer.LikeEventProducer;
+import com.merfonteen.likeservice.dto.PostLikeState;
 import com.merfonteen.likeservice.mapper.LikeMapper;
 import com.merfonteen.likeservice.model.Like;
+import com.merfonteen.likeservice.model.cursors.LikeCursor;
+import com.merfonteen.likeservice.model.enums.OutboxEventType;
 import com.merfonteen.likeservice.repository.LikeRepository;
+import com.merfonteen.likeservice.service.OutboxService;
+import com.merfonteen.likeservice.service.impl.counter.LikeCountAggregator;
+import com.merfonteen.likeservice.service.impl.index.PostExistenceIndex;
 import com.merfonteen.likeservice.service.impl.redis.LikeRateLimiter;
 import com.merfonteen.likeservice.service.impl.redis.RedisCounter;
+import com.merfonteen.likeservice.util.CursorCodec;
+import com.merfonteen.tombstone.PostTombstonePurger;
 import feign.FeignException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static com.merfonteen.likeservice.service.impl.LikeServiceImplTest.TestResources.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
@@ -42,6 +53,9 @@ class LikeServiceImplTest {
     @Mock
     private LikeMapper likeMapper;
 
+    @Mock
+    private CursorCodec cursorCodec;
+
     @Mock
     private LikeRepository likeRepository;
 
@@ -49,35 +63,85 @@ class LikeServiceImplTest {
     private LikeRateLimiter likeRateLimiter;
 
     @Mock
-    private LikeEventProducer likeEventProducer;
+    private OutboxService outboxService;
 
     @Mock
     private RedisCounter redisCounter;
 
+    @Mock
+    private LikeCountAggregator likeCountAggregator;
+
+    @Mock
+    private PostExistenceIndex postExistenceIndex;
+
+    @Mock
+    private PostTombstonePurger postTombstonePurger;
+
     @InjectMocks
     private LikeServiceImpl likeService;
 
     @Test
     void testGetLikesForPost_Success() {
-        PageRequest pageRequest = buildPageRequest();
+        Pageable page = Pageable.ofSize(SIZE);
         Like like = buildLikeEntity();
         LikeResponse likeResponse = buildLikeResponse(like);
-        LikesSearchRequest searchRequest = buildLikesSearchRequest();
+        LikesSearchRequest searchRequest = buildLikesSearchRequest(null);
 
         List<LikeResponse> likeResponses = new ArrayList<>(List.of(likeResponse));
-        Page<Like> likePage = new PageImpl<>(List.of(like));
-        LikePageResponse responseDto = buildLikePageResponse(likeResponses, likePage);
+        Slice<Like> likeSlice = new SliceImpl<>(List.of(like), page, true);
+        LikeSliceResponse responseDto = buildLikeSliceResponse(likeResponses, NEXT_CURSOR);
 
         doNothing().when(postClient).checkPostExists(POST_ID);
-        when(likeMapper.buildPageRequest(searchRequest)).thenReturn(pageRequest);
-        when(likeRepository.findAllByPostId(POST_ID, pageRequest)).thenReturn(likePage);
-        when(likeMapper.toDtos(likePage.getContent())).thenReturn(likeResponses);
-        when(likeMapper.buildLikePageResponse(likeResponses, likePage)).thenReturn(responseDto);
+        when(cursorCodec.decodeLikeCursor(null)).thenReturn(Optional.empty());
+        when(likeRepository.findLatestByPostId(POST_ID, page)).thenReturn(likeSlice);
+        when(cursorCodec.encodeLikeCursor(CREATED_AT, LIKE_ID)).thenReturn(NEXT_CURSOR);
+        when(likeMapper.toDtos(likeSlice.getContent())).thenReturn(likeResponses);
+        when(likeMapper.buildLikeSliceResponse(likeResponses, NEXT_CURSOR)).thenReturn(responseDto);
 
-        LikePageResponse result = likeService.getLikesForPost(POST_ID, searchRequest);
+        LikeSliceResponse result = likeService.getLikesForPost(POST_ID, searchRequest);
 
         assertThat(result).isEqualTo(responseDto);
-        verify(likeRepository, times(1)).findAllByPostId(POST_ID, pageRequest);
+        verify(likeRepository, never()).count();
+    }
+
+    @Test
+    void testGetLikesForPost_WithCursor_ShouldSeekPastCursor() {
+        Pageable page = Pageable.ofSize(SIZE);
+        LikesSearchRequest searchRequest = buildLikesSearchRequest(NEXT_CURSOR);
+        Slice<Like> lastSlice = new SliceImpl<>(List.of(), page, false);
+
+        when(cursorCodec.decodeLikeCursor(NEXT_CURSOR)).thenReturn(Optional.of(new LikeCursor(CREATED_AT, LIKE_ID)));
+        when(likeRepository.findByPostIdAfterCursor(POST_ID, CREATED_AT, LIKE_ID, page)).thenReturn(lastSlice);
+        when(likeMapper.toDtos(List.of())).thenReturn(List.of());
+
+        likeService.getLikesForPost(POST_ID, searchRequest);
+
+        verify(likeRepository, never()).findLatestByPostId(anyLong(), any(Pageable.class));
+        verify(likeMapper).buildLikeSliceResponse(List.of(), null);
+    }
+
+    @Test
+    void testGetLikeCounts_ShouldQueryDatabaseOnlyForCacheMisses() {
+        when(redisCounter.getCachedValues(List.of(POST_ID, ANOTHER_POST_ID))).thenReturn(Arrays.asList("7", null));
+        when(likeRepository.findAggregatedCounts(List.of(ANOTHER_POST_ID))).thenReturn(List.of());
+
+        Map<Long, Long> result = likeService.getLikeCounts(List.of(POST_ID, ANOTHER_POST_ID));
+
+        assertThat(result).containsExactly(entry(POST_ID, 7L), entry(ANOTHER_POST_ID, 0L));
+        verify(redisCounter).setCounters(Map.of(ANOTHER_POST_ID, 0L));
+    }
+
+    @Test
+    void testGetLikeStates_ShouldCombineCountsWithLikedFlags() {
+        when(redisCounter.getCachedValues(List.of(POST_ID, ANOTHER_POST_ID))).thenReturn(List.of("7", "3"));
+        when(likeRepository.findLikedPostIds(USER_ID, new long[]{POST_ID, ANOTHER_POST_ID})).thenReturn(List.of(ANOTHER_POST_ID));
+
+        List<PostLikeState> result = likeService.getLikeStates(List.of(POST_ID, ANOTHER_POST_ID), USER_ID);
+
+        assertThat(result).containsExactly(
+                new PostLikeState(POST_ID, 7L, false),
+                new PostLikeState(ANOTHER_POST_ID, 3L, true));
+        verify(likeRepository, never()).findAggregatedCounts(anyList());
     }
 
     @Test
@@ -93,9 +157,26 @@ class LikeServiceImplTest {
         LikeResponse result = likeService.likePost(POST_ID, USER_ID);
 
         assertThat(result).isEqualTo(likeResponse);
-        verify(redisCounter).incrementCounter(POST_ID);
+        verify(likeCountAggregator).increment(POST_ID);
         verify(likeRepository, times(1)).findByPostIdAndUserId(POST_ID, USER_ID);
         verify(likeRateLimiter, times(1)).limitAmountOfLikes(USER_ID);
+        verify(outboxService).create(like, OutboxEventType.LIKE_SENT);
+        verify(postExistenceIndex).add(POST_ID);
+    }
+
+    @Test
+    void testLikePost_WhenPostIsIndexed_ShouldSkipPostServiceCall() {
+        Like like = buildLikeEntity();
+
+        when(postExistenceIndex.contains(POST_ID)).thenReturn(true);
+        when(likeRepository.findByPostIdAndUserId(POST_ID, USER_ID)).thenReturn(Optional.empty());
+        when(likeRepository.save(any(Like.class))).thenReturn(like);
+        when(likeMapper.toDto(any(Like.class))).thenReturn(buildLikeResponse(like));
+
+        likeService.likePost(POST_ID, USER_ID);
+
+        verifyNoInteractions(postClient);
+        verify(postExistenceIndex, never()).add(anyLong());
     }
 
     @Test
@@ -122,7 +203,8 @@ class LikeServiceImplTest {
         verify(likeRepository, times(1)).findByPostIdAndUserId(POST_ID, USER_ID);
         verify(likeRateLimiter, times(1)).limitAmountOfUnlikes(USER_ID);
         verify(likeRepository, times(1)).delete(any(Like.class));
-        verify(redisCounter).decrementCounter(POST_ID);
+        verify(likeCountAggregator).decrement(POST_ID);
+        verify(outboxService).create(likeToRemove, OutboxEventType.LIKE_REMOVED);
     }
 
     @Test
@@ -145,24 +227,37 @@ class LikeServiceImplTest {
         assertEquals("You did not like this post", exception.getMessage());
     }
 
+    @Test
+    void testRemoveLikesOnPost_ShouldTombstonePostInsteadOfDeletingLikes() {
+        when(postTombstonePurger.tombstone(POST_ID)).thenReturn(true);
+
+        likeService.removeLikesOnPost(new PostRemovedEvent(POST_ID, USER_ID));
+
+        verify(postTombstonePurger).tombstone(POST_ID);
+        verify(likeCountAggregator).discard(POST_ID);
+        verify(likeRepository).deleteLikeCountByPostId(POST_ID);
+        verify(redisCounter).evictCounters(List.of(POST_ID));
+        verify(likeRepository, never()).delete(any(Like.class));
+    }
+
     static class TestResources {
         static final Long LIKE_ID = 111L;
         static final Long USER_ID = 5L;
         static final Long POST_ID = 1L;
-        static final int PAGE = 0;
+        static final Long ANOTHER_POST_ID = 2L;
         static final int SIZE = 10;
+        static final Instant CREATED_AT = Instant.parse("2025-01-01T10:00:00Z");
+        static final String NEXT_CURSOR = "next-cursor";
 
-        static LikesSearchRequest buildLikesSearchRequest() {
-            return LikesSearchRequest.builder().page(PAGE).size(SIZE).build();
+        static LikesSearchRequest buildLikesSearchRequest(String cursor) {
+            return LikesSearchRequest.builder().size(SIZE).cursor(cursor).build();
         }
 
-        static LikePageResponse buildLikePageResponse(List<LikeResponse> likesForPost, Page<Like> likesPage) {
-            return LikePageResponse.builder()
-                    .likes(likesForPost)
-                    .currentPage(likesPage.getNumber())
-                    .totalPages(likesPage.getTotalPages())
-                    .totalElements(likesPage.getTotalElements())
-                    .isLastPage(likesPage.isLast())
+        static LikeSliceResponse buildLikeSliceResponse(List<LikeResponse> likes, String nextCursor) {
+            return LikeSliceResponse.builder()
+                    .likes(likes)
+                    .nextCursor(nextCursor)
+                    .hasNext(nextCursor != null)
                     .build();
         }
 
@@ -171,6 +266,7 @@ class LikeServiceImplTest {
                     .id(LIKE_ID)
                     .postId(POST_ID)
                     .userId(USER_ID)
+                    .createdAt(CREATED_AT)
                     .build();
         }
 
@@ -181,9 +277,5 @@ class LikeServiceImplTest {
                     .userId(like.getUserId())
                     .build();
         }
-
-        static PageRequest buildPageRequest() {
-            return PageRequest.of(PAGE, SIZE, Sort.by(Sort.Direction.DESC, "createdAt"));
-        }
     }
 }
\ No newline at end of file
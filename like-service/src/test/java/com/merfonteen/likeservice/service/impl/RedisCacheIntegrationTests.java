@@ -6,6 +6,7 @@ import com.merfonteen.likeservice.kafka.eventProducer.LikeEventProducer;
 import com.merfonteen.likeservice.model.Like;
 import com.merfonteen.likeservice.repository.LikeRepository;
 import com.merfonteen.likeservice.service.impl.config.RestTemplateConfig;
+import com.merfonteen.likeservice.service.impl.counter.LikeCountAggregator;
 import com.merfonteen.likeservice.service.impl.redis.LikeRateLimiter;
 import com.merfonteen.likeservice.service.impl.redis.RedisCounter;
 import org.junit.jupiter.api.BeforeEach;
@@ -53,6 +54,9 @@ public class RedisCacheIntegrationTests extends AbstractContainer {
     @Autowired
     private RedisCounter redisCounter;
 
+    @Autowired
+    private LikeCountAggregator likeCountAggregator;
+
     @Autowired
     private StringRedisTemplate redisTemplate;
 
@@ -93,6 +97,7 @@ public class RedisCacheIntegrationTests extends AbstractContainer {
 
         String likeOnPostsUrl = buildLikesOnPostsUrl(like.getPostId());
         testRestTemplate.postForEntity(likeOnPostsUrl, request, LikeResponse.class);
+        likeCountAggregator.flush();
 
         String newValue = redisOps.get(cacheKey);
         assertThat(Long.parseLong(newValue)).isGreaterThan(previousLikeCount);
@@ -113,6 +118,7 @@ public class RedisCacheIntegrationTests extends AbstractContainer {
 
         String likesOnPostsUrl = buildLikesOnPostsUrl(like.getPostId());
         testRestTemplate.exchange(likesOnPostsUrl, HttpMethod.DELETE, request, LikeResponse.class);
+        likeCountAggregator.flush();
 
         String newValue = redisOps.get(cacheKey);
         assertThat(Long.parseLong(newValue)).isLessThan(actualValue);
@@ -0,0 +1,52 @@
+package com.merfonteen.notificationservice.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.merfonteen.notificationservice.service.NotificationService;
+import com.merfonteen.notificationservice.service.push.NotificationPushListener;
+import com.merfonteen.notificationservice.service.push.NotificationPushPublisher;
+import com.merfonteen.notificationservice.service.push.NotificationStreamRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+
+@Configuration
+public class NotificationPushConfig {
+
+    @Bean
+    public NotificationPushPublisher notificationPushPublisher(StringRedisTemplate stringRedisTemplate,
+                                                               ObjectMapper objectMapper,
+                                                               @Value("${notification.push.channel}") String channel) {
+        return new NotificationPushPublisher(stringRedisTemplate, objectMapper, channel);
+    }
+
+    @Bean
+    public NotificationStreamRegistry notificationStreamRegistry(
+            NotificationService notificationService,
+            @Value("${notification.push.emitter-timeout}") Duration emitterTimeout) {
+        return new NotificationStreamRegistry(emitterTimeout, notificationService::countUnreadNotifications);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer notificationPushListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            ObjectMapper objectMapper,
+            NotificationStreamRegistry notificationStreamRegistry,
+            @Value("${notification.push.channel}") String channel) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("notification-push-");
+        executor.setVirtualThreads(true);
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.setTaskExecutor(executor);
+        container.addMessageListener(new NotificationPushListener(objectMapper, notificationStreamRegistry),
+                ChannelTopic.of(channel));
+        return container;
+    }
+}
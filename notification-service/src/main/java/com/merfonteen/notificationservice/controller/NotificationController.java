@@ -1,12 +1,17 @@
 package com.merfonteen.notificationservice.controller;
 
 import com.merfonteen.notificationservice.dto.NotificationResponse;
-import com.merfonteen.notificationservice.dto.NotificationsPageResponse;
+import com.merfonteen.notificationservice.dto.NotificationsSliceResponse;
 import com.merfonteen.notificationservice.dto.NotificationsSearchRequest;
 import com.merfonteen.notificationservice.service.NotificationService;
+import com.merfonteen.notificationservice.service.push.NotificationStreamRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Instant;
 
 @RequiredArgsConstructor
 @RequestMapping("/api/notifications")
@@ -14,13 +19,19 @@ import org.springframework.web.bind.annotation.*;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final NotificationStreamRegistry notificationStreamRegistry;
 
     @GetMapping
-    public ResponseEntity<NotificationsPageResponse> getMyNotifications(@RequestHeader("X-User-Id") Long currentUserId,
+    public ResponseEntity<NotificationsSliceResponse> getMyNotifications(@RequestHeader("X-User-Id") Long currentUserId,
                                                                         NotificationsSearchRequest searchRequest) {
         return ResponseEntity.ok(notificationService.getMyNotifications(currentUserId, searchRequest));
     }
 
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamNotifications(@RequestHeader("X-User-Id") Long currentUserId) {
+        return notificationStreamRegistry.open(currentUserId);
+    }
+
     @GetMapping("/unread/count")
     public ResponseEntity<Long> countUnreadNotifications(@RequestHeader("X-User-Id") Long currentUserId) {
         return ResponseEntity.ok(notificationService.countUnreadNotifications(currentUserId));
@@ -32,6 +43,12 @@ public class NotificationController {
         return ResponseEntity.ok(notificationService.markAsRead(id, currentUserId));
     }
 
+    @PostMapping("/read-all")
+    public ResponseEntity<Integer> markAllAsRead(@RequestHeader("X-User-Id") Long currentUserId,
+                                                 @RequestParam(value = "upTo", required = false) Instant upTo) {
+        return ResponseEntity.ok(notificationService.markAllAsRead(currentUserId, upTo));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteNotification(@PathVariable("id") Long id,
                                                    @RequestHeader("X-User-Id") Long currentUserId) {
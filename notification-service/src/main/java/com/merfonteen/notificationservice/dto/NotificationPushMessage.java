@@ -0,0 +1,17 @@
+package com.merfonteen.notificationservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class NotificationPushMessage {
+    private List<Long> receiverIds;
+    private NotificationResponse notification;
+}
@@ -7,6 +7,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.Instant;
+import java.util.List;
 
 @AllArgsConstructor
 @NoArgsConstructor
@@ -19,6 +20,8 @@ public class NotificationResponse {
     private Long entityId;
     private NotificationType type;
     private String message;
+    private Integer actorCount;
+    private List<Long> lastActorIds;
     private Boolean isRead;
     private Instant createdAt;
 }
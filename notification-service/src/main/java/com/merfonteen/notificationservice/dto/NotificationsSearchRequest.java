@@ -10,9 +10,8 @@ import lombok.NoArgsConstructor;
 @Builder
 @Data
 public class NotificationsSearchRequest {
-    @Builder.Default
-    private int page = 0;
     @Builder.Default
     private int size = 10;
+    private String cursor;
     private String filterRaw;
 }
@@ -2,7 +2,6 @@ package com.merfonteen.notificationservice.kafkaListener;
 
 import com.merfonteen.kafkaEvents.LikeRemovedEvent;
 import com.merfonteen.kafkaEvents.LikeSentEvent;
-import com.merfonteen.notificationservice.model.enums.NotificationType;
 import com.merfonteen.notificationservice.service.NotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -35,7 +34,7 @@ public class LikeEventListener {
     )
     public void handleLikeRemovedEvent(LikeRemovedEvent event, Acknowledgment ack) {
         log.info("Received like-removed-event: {}", event);
-        notificationService.deleteNotificationsForEntity(event.getLikeId(), NotificationType.LIKE);
+        notificationService.removeLikeNotification(event.getUserId(), event.getPostId());
         ack.acknowledge();
     }
 }
@@ -35,6 +35,7 @@ public class SubscriptionEventListener {
     )
     public void handleSubscriptionRemovedEvent(SubscriptionRemovedEvent event, Acknowledgment ack) {
         log.info("Received subscription-removed-event: {}", event);
+        notificationService.removeFollower(event.getTargetUserId(), event.getFollowerId());
         notificationService.deleteNotificationsForEntity(event.getTargetUserId(), NotificationType.SUBSCRIPTION);
         ack.acknowledge();
     }
@@ -1,40 +1,88 @@
 package com.merfonteen.notificationservice.mapper;
 
 import com.merfonteen.notificationservice.dto.NotificationResponse;
-import com.merfonteen.notificationservice.dto.NotificationsPageResponse;
+import com.merfonteen.notificationservice.dto.NotificationsSliceResponse;
 import com.merfonteen.notificationservice.model.Notification;
 import com.merfonteen.notificationservice.model.enums.NotificationType;
 import org.mapstruct.Mapper;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.List;
 
 @Mapper(componentModel = "spring")
 public interface NotificationMapper {
 
-    NotificationResponse toDto(Notification notification);
+    default NotificationResponse toDto(Notification notification) {
+        if (notification == null) {
+            return null;
+        }
+        return NotificationResponse.builder()
+                .id(notification.getId())
+                .senderId(notification.getSenderId())
+                .receiverId(notification.getReceiverId())
+                .entityId(notification.getEntityId())
+                .type(notification.getType())
+                .message(renderMessage(notification))
+                .actorCount(notification.getActorCount())
+                .lastActorIds(notification.getLastActorIds() == null
+                        ? List.of()
+                        : Arrays.asList(notification.getLastActorIds()))
+                .isRead(notification.getIsRead())
+                .createdAt(notification.getCreatedAt())
+                .build();
+    }
 
     List<NotificationResponse> toDtos(List<Notification> notifications);
 
-    default PageRequest buildPageRequest(int page, int size) {
-        return PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-    }
-
-    default NotificationsPageResponse buildNotificationsPageResponse(List<NotificationResponse> notificationDtos,
-                                                                     Page<Notification> userNotifications) {
-        return NotificationsPageResponse.builder()
+    default NotificationsSliceResponse buildNotificationsSliceResponse(List<NotificationResponse> notificationDtos,
+                                                                       String nextCursor) {
+        return NotificationsSliceResponse.builder()
                 .notifications(notificationDtos)
-                .currentPage(userNotifications.getNumber())
-                .totalPages(userNotifications.getTotalPages())
-                .totalElements(userNotifications.getTotalElements())
-                .isLastPage(userNotifications.isLast())
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
                 .build();
     }
 
     default Notification buildNotification(Long senderId, Long receiverId, Long entityId, NotificationType type) {
+        return Notification.builder()
+                .senderId(senderId)
+                .receiverId(receiverId)
+                .entityId(entityId)
+                .type(type)
+                .lastActorIds(new Long[]{senderId})
+                .isRead(false)
+                .createdAt(Instant.now())
+                .build();
+    }
+
+    default NotificationResponse buildPushNotification(Long senderId, Long receiverId, Long entityId,
+                                                       NotificationType type) {
+        return NotificationResponse.builder()
+                .senderId(senderId)
+                .receiverId(receiverId)
+                .entityId(entityId)
+                .type(type)
+                .message(buildMessage(senderId, receiverId, entityId, type))
+                .isRead(false)
+                .createdAt(Instant.now())
+                .build();
+    }
+
+    default String renderMessage(Notification notification) {
+        int otherActors = notification.getActorCount() == null ? 0 : notification.getActorCount() - 1;
+        if (notification.getType() == NotificationType.LIKE && notification.getBucketStart() == null) {
+            return String.format("User with id '%d' has liked your post", notification.getSenderId());
+        }
+        if (otherActors > 0 && notification.getType() == NotificationType.LIKE) {
+            return String.format("User with id '%d' and %d others have liked your post with id '%d'",
+                    notification.getSenderId(), otherActors, notification.getEntityId());
+        }
+        return buildMessage(notification.getSenderId(), notification.getReceiverId(),
+                notification.getEntityId(), notification.getType());
+    }
+
+    default String buildMessage(Long senderId, Long receiverId, Long entityId, NotificationType type) {
         String message = "";
         switch (type) {
             case LIKE -> message =
@@ -47,14 +95,6 @@ public interface NotificationMapper {
                     String.format("User with id '%d' has just left comment '%d' for you",
                             senderId, entityId);
         }
-        return Notification.builder()
-                .senderId(senderId)
-                .receiverId(receiverId)
-                .entityId(entityId)
-                .type(type)
-                .message(message)
-                .isRead(false)
-                .createdAt(Instant.now())
-                .build();
+        return message;
     }
 }
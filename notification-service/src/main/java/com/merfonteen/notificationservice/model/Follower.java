@@ -0,0 +1,28 @@
+package com.merfonteen.notificationservice.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@IdClass(FollowerId.class)
+@Table(name = "followers", schema = "notification_service")
+public class Follower {
+    @Id
+    @Column(name = "followee_id", nullable = false)
+    private Long followeeId;
+
+    @Id
+    @Column(name = "follower_id", nullable = false)
+    private Long followerId;
+
+    @Builder.Default
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt = Instant.now();
+}
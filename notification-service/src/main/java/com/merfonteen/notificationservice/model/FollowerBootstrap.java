@@ -0,0 +1,27 @@
+package com.merfonteen.notificationservice.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "follower_bootstrap", schema = "notification_service")
+public class FollowerBootstrap {
+    @Id
+    private Short id;
+
+    @Column(name = "last_subscription_id", nullable = false)
+    private Long lastSubscriptionId;
+
+    @Column(name = "locked_until")
+    private Instant lockedUntil;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+}
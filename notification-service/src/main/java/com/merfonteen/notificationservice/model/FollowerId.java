@@ -0,0 +1,17 @@
+package com.merfonteen.notificationservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+@NoArgsConstructor
+public class FollowerId implements Serializable {
+    private Long followeeId;
+    private Long followerId;
+}
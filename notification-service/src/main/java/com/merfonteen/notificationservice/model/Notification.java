@@ -3,6 +3,8 @@ package com.merfonteen.notificationservice.model;
 import com.merfonteen.notificationservice.model.enums.NotificationType;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.Instant;
 
@@ -31,12 +33,20 @@ public class Notification {
     @Column(nullable = false)
     private NotificationType type;
 
-    @Column(nullable = false)
-    private String message;
-
     @Column(name = "is_read", nullable = false)
     private Boolean isRead;
 
+    @Builder.Default
+    @Column(name = "actor_count", nullable = false)
+    private Integer actorCount = 1;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "last_actor_ids", nullable = false, columnDefinition = "bigint[]")
+    private Long[] lastActorIds;
+
+    @Column(name = "bucket_start")
+    private Instant bucketStart;
+
     @Builder.Default
     @Column(name = "created_at", nullable = false)
     private Instant createdAt = Instant.now();
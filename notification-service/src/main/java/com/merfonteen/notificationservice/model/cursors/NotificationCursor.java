@@ -0,0 +1,6 @@
+package com.merfonteen.notificationservice.model.cursors;
+
+import java.time.Instant;
+
+public record NotificationCursor(Instant createdAt, long id) {
+}
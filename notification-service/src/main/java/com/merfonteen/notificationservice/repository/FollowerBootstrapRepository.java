@@ -0,0 +1,54 @@
+package com.merfonteen.notificationservice.repository;
+
+import com.merfonteen.notificationservice.model.FollowerBootstrap;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+
+@Repository
+public interface FollowerBootstrapRepository extends JpaRepository<FollowerBootstrap, Short> {
+
+    @Transactional
+    @Query(value = """
+            UPDATE notification_service.follower_bootstrap
+            SET locked_until = :lockedUntil
+            WHERE id = 1
+              AND completed_at IS NULL
+              AND (locked_until IS NULL OR locked_until < :now)
+            RETURNING last_subscription_id
+            """, nativeQuery = true)
+    Optional<Long> claim(@Param("now") Instant now, @Param("lockedUntil") Instant lockedUntil);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE notification_service.follower_bootstrap
+            SET last_subscription_id = :lastSubscriptionId, locked_until = :lockedUntil
+            WHERE id = 1
+            """, nativeQuery = true)
+    int saveProgress(@Param("lastSubscriptionId") Long lastSubscriptionId, @Param("lockedUntil") Instant lockedUntil);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE notification_service.follower_bootstrap
+            SET completed_at = :completedAt, locked_until = NULL
+            WHERE id = 1
+            """, nativeQuery = true)
+    int complete(@Param("completedAt") Instant completedAt);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE notification_service.follower_bootstrap
+            SET locked_until = NULL
+            WHERE id = 1
+            """, nativeQuery = true)
+    int release();
+}
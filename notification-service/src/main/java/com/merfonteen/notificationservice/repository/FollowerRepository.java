@@ -0,0 +1,54 @@
+package com.merfonteen.notificationservice.repository;
+
+import com.merfonteen.notificationservice.model.Follower;
+import com.merfonteen.notificationservice.model.FollowerId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface FollowerRepository extends JpaRepository<Follower, FollowerId> {
+
+    @Query(value = """
+            SELECT f.follower_id
+            FROM notification_service.followers f
+            WHERE f.followee_id = :followeeId
+              AND f.follower_id > :afterFollowerId
+            ORDER BY f.follower_id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Long> findFollowerIdsAfter(@Param("followeeId") Long followeeId,
+                                    @Param("afterFollowerId") Long afterFollowerId,
+                                    @Param("limit") int limit);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT INTO notification_service.followers (followee_id, follower_id)
+            VALUES (:followeeId, :followerId)
+            ON CONFLICT DO NOTHING
+            """, nativeQuery = true)
+    int addFollower(@Param("followeeId") Long followeeId, @Param("followerId") Long followerId);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT INTO notification_service.followers (followee_id, follower_id)
+            SELECT f.followee_id, f.follower_id FROM unnest(:followeeIds, :followerIds) AS f(followee_id, follower_id)
+            ON CONFLICT DO NOTHING
+            """, nativeQuery = true)
+    int addFollowers(@Param("followeeIds") long[] followeeIds, @Param("followerIds") long[] followerIds);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+            DELETE FROM notification_service.followers
+            WHERE followee_id = :followeeId AND follower_id = :followerId
+            """, nativeQuery = true)
+    int removeFollower(@Param("followeeId") Long followeeId, @Param("followerId") Long followerId);
+}
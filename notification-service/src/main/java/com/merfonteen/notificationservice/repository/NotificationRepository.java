@@ -2,26 +2,194 @@ package com.merfonteen.notificationservice.repository;
 
 import com.merfonteen.notificationservice.model.Notification;
 import com.merfonteen.notificationservice.model.enums.NotificationType;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
-    Page<Notification> findAllByReceiverId(Long receiverId, Pageable pageable);
+    @Query("SELECT n FROM Notification n WHERE n.receiverId = :receiverId ORDER BY n.createdAt DESC, n.id DESC")
+    Slice<Notification> findLatestByReceiverId(@Param("receiverId") Long receiverId, Pageable pageable);
 
-    Page<Notification> findAllByReceiverIdAndIsReadTrue(Long receiverId, Pageable pageable);
+    @Query("""
+            SELECT n FROM Notification n
+            WHERE n.receiverId = :receiverId
+            AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id))
+            ORDER BY n.createdAt DESC, n.id DESC
+            """)
+    Slice<Notification> findByReceiverIdAfterCursor(@Param("receiverId") Long receiverId,
+                                                    @Param("createdAt") Instant createdAt,
+                                                    @Param("id") Long id,
+                                                    Pageable pageable);
 
-    Optional<Notification> findByIdAndReceiverId(Long id, Long receiverId);
+    @Query("""
+            SELECT n FROM Notification n
+            WHERE n.receiverId = :receiverId AND n.isRead = false
+            ORDER BY n.createdAt DESC, n.id DESC
+            """)
+    Slice<Notification> findLatestUnreadByReceiverId(@Param("receiverId") Long receiverId, Pageable pageable);
+
+    @Query("""
+            SELECT n FROM Notification n
+            WHERE n.receiverId = :receiverId AND n.isRead = false
+            AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id))
+            ORDER BY n.createdAt DESC, n.id DESC
+            """)
+    Slice<Notification> findUnreadByReceiverIdAfterCursor(@Param("receiverId") Long receiverId,
+                                                          @Param("createdAt") Instant createdAt,
+                                                          @Param("id") Long id,
+                                                          Pageable pageable);
+
+    @Query("""
+            SELECT n FROM Notification n
+            WHERE n.receiverId = :receiverId AND n.isRead = true
+            ORDER BY n.createdAt DESC, n.id DESC
+            """)
+    Slice<Notification> findLatestReadByReceiverId(@Param("receiverId") Long receiverId, Pageable pageable);
 
-    Page<Notification> findAllByReceiverIdAndIsReadFalse(Long receiverId, Pageable pageable);
+    @Query("""
+            SELECT n FROM Notification n
+            WHERE n.receiverId = :receiverId AND n.isRead = true
+            AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id))
+            ORDER BY n.createdAt DESC, n.id DESC
+            """)
+    Slice<Notification> findReadByReceiverIdAfterCursor(@Param("receiverId") Long receiverId,
+                                                        @Param("createdAt") Instant createdAt,
+                                                        @Param("id") Long id,
+                                                        Pageable pageable);
+
+    Optional<Notification> findByIdAndReceiverId(Long id, Long receiverId);
 
     List<Notification> findByEntityIdAndType(Long entityId, NotificationType type);
 
     long countAllByReceiverIdAndIsReadFalse(Long receiverId);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE notification_service.notifications
+            SET is_read = TRUE
+            WHERE receiver_id = :receiverId
+              AND id = ANY (:ids)
+              AND is_read = FALSE
+            """, nativeQuery = true)
+    int markAsReadByIds(@Param("receiverId") Long receiverId, @Param("ids") long[] ids);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE notification_service.notifications
+            SET is_read = TRUE
+            WHERE receiver_id = :receiverId
+              AND created_at <= :upTo
+              AND is_read = FALSE
+            """, nativeQuery = true)
+    int markAllAsReadUpTo(@Param("receiverId") Long receiverId, @Param("upTo") Instant upTo);
+
+    @Transactional
+    @Query(value = """
+            INSERT INTO notification_service.notifications
+                (sender_id, receiver_id, entity_id, type, is_read, created_at, last_actor_ids)
+            SELECT :senderId, r.receiver_id, :entityId, :type, FALSE, NOW(), ARRAY[:senderId]::bigint[]
+            FROM unnest(:receiverIds) AS r(receiver_id)
+            ON CONFLICT (receiver_id, type, entity_id) WHERE type = 'POST' DO NOTHING
+            RETURNING receiver_id
+            """, nativeQuery = true)
+    List<Long> insertNotifications(@Param("senderId") Long senderId,
+                            @Param("receiverIds") long[] receiverIds,
+                            @Param("entityId") Long entityId,
+                            @Param("type") String type);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT INTO notification_service.notification_actors (receiver_id, type, entity_id, bucket_start, actor_id)
+            VALUES (:receiverId, :type, :entityId, :bucketStart, :actorId)
+            ON CONFLICT DO NOTHING
+            """, nativeQuery = true)
+    int addAggregatedActor(@Param("actorId") Long actorId,
+                           @Param("receiverId") Long receiverId,
+                           @Param("entityId") Long entityId,
+                           @Param("type") String type,
+                           @Param("bucketStart") Instant bucketStart);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+            DELETE FROM notification_service.notification_actors
+            WHERE entity_id = :entityId AND type = :type
+            """, nativeQuery = true)
+    int deleteAggregatedActors(@Param("entityId") Long entityId, @Param("type") String type);
+
+    @Transactional
+    @Query(value = """
+            WITH previous AS (
+                SELECT n.is_read
+                FROM notification_service.notifications n
+                WHERE n.receiver_id = :receiverId
+                  AND n.type = :type
+                  AND n.entity_id = :entityId
+                  AND n.bucket_start = :bucketStart
+            )
+            INSERT INTO notification_service.notifications
+                (sender_id, receiver_id, entity_id, type, is_read, created_at, actor_count, last_actor_ids, bucket_start)
+            VALUES (:senderId, :receiverId, :entityId, :type, FALSE, NOW(), 1, ARRAY[:senderId]::bigint[], :bucketStart)
+            ON CONFLICT (receiver_id, type, entity_id, bucket_start) WHERE bucket_start IS NOT NULL DO UPDATE
+            SET sender_id      = EXCLUDED.sender_id,
+                actor_count    = notifications.actor_count + 1,
+                last_actor_ids = (EXCLUDED.last_actor_ids || notifications.last_actor_ids)[1:5],
+                is_read        = FALSE,
+                created_at     = EXCLUDED.created_at
+            RETURNING COALESCE((SELECT p.is_read FROM previous p), TRUE)
+            """, nativeQuery = true)
+    Optional<Boolean> upsertAggregatedNotification(@Param("senderId") Long senderId,
+                                                   @Param("receiverId") Long receiverId,
+                                                   @Param("entityId") Long entityId,
+                                                   @Param("type") String type,
+                                                   @Param("bucketStart") Instant bucketStart);
+
+    @Transactional
+    @Query(value = """
+            WITH removed AS (
+                DELETE FROM notification_service.notification_actors a
+                WHERE a.type = :type
+                  AND a.entity_id = :entityId
+                  AND a.actor_id = :actorId
+                RETURNING a.receiver_id, a.bucket_start
+            ), deleted AS (
+                DELETE FROM notification_service.notifications n
+                USING removed r
+                WHERE n.receiver_id = r.receiver_id
+                  AND n.type = :type
+                  AND n.entity_id = :entityId
+                  AND n.bucket_start = r.bucket_start
+                  AND n.actor_count = 1
+                RETURNING n.receiver_id, n.is_read
+            ), updated AS (
+                UPDATE notification_service.notifications n
+                SET actor_count    = n.actor_count - 1,
+                    last_actor_ids = array_remove(n.last_actor_ids, :actorId),
+                    sender_id      = COALESCE((array_remove(n.last_actor_ids, :actorId))[1], n.sender_id)
+                FROM removed r
+                WHERE n.receiver_id = r.receiver_id
+                  AND n.type = :type
+                  AND n.entity_id = :entityId
+                  AND n.bucket_start = r.bucket_start
+                  AND n.actor_count > 1
+            )
+            SELECT d.receiver_id FROM deleted d WHERE d.is_read = FALSE
+            """, nativeQuery = true)
+    List<Long> removeAggregatedActor(@Param("actorId") Long actorId,
+                                     @Param("entityId") Long entityId,
+                                     @Param("type") String type);
 }
@@ -1,27 +1,35 @@
 package com.merfonteen.notificationservice.service;
 
 import com.merfonteen.notificationservice.dto.NotificationResponse;
-import com.merfonteen.notificationservice.dto.NotificationsPageResponse;
+import com.merfonteen.notificationservice.dto.NotificationsSliceResponse;
 import com.merfonteen.notificationservice.dto.NotificationsSearchRequest;
 import com.merfonteen.notificationservice.model.enums.NotificationType;
 
+import java.time.Instant;
+
 public interface NotificationService {
 
-    NotificationsPageResponse getMyNotifications(Long currentUserId, NotificationsSearchRequest searchRequest);
+    NotificationsSliceResponse getMyNotifications(Long currentUserId, NotificationsSearchRequest searchRequest);
 
     Long countUnreadNotifications(Long currentUserId);
 
     NotificationResponse markAsRead(Long notificationId, Long currentUserId);
 
+    int markAllAsRead(Long currentUserId, Instant upTo);
+
     void deleteNotification(Long id, Long currentUserId);
 
     void deleteNotificationsForEntity(Long entityId, NotificationType type);
 
     void sendLikeNotification(Long senderId, Long likeId, Long postId);
 
+    void removeLikeNotification(Long senderId, Long postId);
+
     void sendPostNotification(Long postId, Long authorId);
 
     void sendFollowNotification(Long followerId, Long followeeId, Long subscriptionId);
 
+    void removeFollower(Long followeeId, Long followerId);
+
     void sendCommentNotification(Long commentId, Long postId, Long leftCommentUserId);
 }
@@ -0,0 +1,61 @@
+package com.merfonteen.notificationservice.service.bootstrap;
+
+import com.merfonteen.notificationservice.client.FeedClient;
+import com.merfonteen.notificationservice.dto.SubscriptionDto;
+import com.merfonteen.notificationservice.repository.FollowerBootstrapRepository;
+import com.merfonteen.notificationservice.repository.FollowerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Copies the follow graph that existed before notification_service.followers was introduced.
+ * Pages through feed-service by subscription id and records progress, so a restart resumes where it stopped.
+ * Once completed, every run is a single no-op UPDATE.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class FollowerBootstrapper {
+    private static final int PAGE_SIZE = 1000;
+    private static final Duration LEASE = Duration.ofMinutes(2);
+
+    private final FeedClient feedClient;
+    private final FollowerRepository followerRepository;
+    private final FollowerBootstrapRepository followerBootstrapRepository;
+
+    @Scheduled(fixedDelayString = "${notification.follower-bootstrap.retry-interval:60000}")
+    public void run() {
+        Optional<Long> claimed = followerBootstrapRepository.claim(Instant.now(), Instant.now().plus(LEASE));
+        if (claimed.isEmpty()) {
+            return;
+        }
+        long afterId = claimed.get();
+        long copied = 0;
+        try {
+            List<SubscriptionDto> page;
+            while (!(page = feedClient.getSubscriptionsAfter(afterId, PAGE_SIZE)).isEmpty()) {
+                long[] followeeIds = new long[page.size()];
+                long[] followerIds = new long[page.size()];
+                for (int i = 0; i < page.size(); i++) {
+                    followeeIds[i] = page.get(i).getFolloweeId();
+                    followerIds[i] = page.get(i).getFollowerId();
+                }
+                copied += followerRepository.addFollowers(followeeIds, followerIds);
+                afterId = page.get(page.size() - 1).getId();
+                followerBootstrapRepository.saveProgress(afterId, Instant.now().plus(LEASE));
+            }
+            followerBootstrapRepository.complete(Instant.now());
+            log.info("Follower bootstrap completed: copied {} followers, last subscription id {}", copied, afterId);
+        } catch (RuntimeException e) {
+            followerBootstrapRepository.release();
+            log.warn("Follower bootstrap stopped after subscription id {}, will retry: {}", afterId, e.getMessage());
+        }
+    }
+}
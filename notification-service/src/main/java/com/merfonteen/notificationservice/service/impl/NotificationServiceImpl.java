@@ -2,78 +2,81 @@ package com.merfonteen.notificationservice.service.impl;
 
 import com.merfonteen.exceptions.BadRequestException;
 import com.merfonteen.exceptions.NotFoundException;
-import com.merfonteen.notificationservice.client.FeedClient;
 import com.merfonteen.notificationservice.client.PostClient;
 import com.merfonteen.notificationservice.dto.NotificationResponse;
-import com.merfonteen.notificationservice.dto.NotificationsPageResponse;
+import com.merfonteen.notificationservice.dto.NotificationsSliceResponse;
 import com.merfonteen.notificationservice.dto.NotificationsSearchRequest;
-import com.merfonteen.notificationservice.dto.SubscriptionDto;
 import com.merfonteen.notificationservice.mapper.NotificationMapper;
 import com.merfonteen.notificationservice.model.Notification;
+import com.merfonteen.notificationservice.model.cursors.NotificationCursor;
 import com.merfonteen.notificationservice.model.enums.NotificationFilter;
 import com.merfonteen.notificationservice.model.enums.NotificationType;
+import com.merfonteen.notificationservice.repository.FollowerRepository;
 import com.merfonteen.notificationservice.repository.NotificationRepository;
 import com.merfonteen.notificationservice.service.NotificationService;
+import com.merfonteen.notificationservice.service.push.NotificationPushPublisher;
 import com.merfonteen.notificationservice.service.redis.RedisCounter;
-import feign.FeignException;
+import com.merfonteen.notificationservice.util.CursorCodec;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class NotificationServiceImpl implements NotificationService {
+    static final int FAN_OUT_CHUNK_SIZE = 1000;
+    static final ChronoUnit AGGREGATION_BUCKET = ChronoUnit.HOURS;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final PostClient postClient;
-    private final FeedClient feedClient;
+    private final CursorCodec cursorCodec;
     private final RedisCounter redisCounter;
     private final NotificationMapper notificationMapper;
+    private final FollowerRepository followerRepository;
     private final NotificationRepository notificationRepository;
+    private final NotificationPushPublisher notificationPushPublisher;
 
     @Transactional
     @Override
-    public NotificationsPageResponse getMyNotifications(Long currentUserId, NotificationsSearchRequest searchRequest) {
+    public NotificationsSliceResponse getMyNotifications(Long currentUserId, NotificationsSearchRequest searchRequest) {
         NotificationFilter filter = NotificationFilter.from(searchRequest.getFilterRaw());
 
-        PageRequest request = notificationMapper.buildPageRequest(searchRequest.getPage(), searchRequest.getSize());
-        Page<Notification> userNotifications;
+        Pageable page = Pageable.ofSize(Math.min(Math.max(searchRequest.getSize(), 1), MAX_PAGE_SIZE));
+        Optional<NotificationCursor> cursor = cursorCodec.decodeNotificationCursor(searchRequest.getCursor());
 
-        switch (filter) {
-            case READ -> userNotifications =
-                    notificationRepository.findAllByReceiverIdAndIsReadTrue(currentUserId, request);
-            case UNREAD -> userNotifications =
-                    notificationRepository.findAllByReceiverIdAndIsReadFalse(currentUserId, request);
-            default -> userNotifications =
-                    notificationRepository.findAllByReceiverId(currentUserId, request);
-        }
+        Slice<Notification> userNotifications = findInboxSlice(currentUserId, filter, cursor, page);
 
         List<NotificationResponse> notificationResponses = notificationMapper.toDtos(userNotifications.getContent());
-        log.info("User '{}' fetched {} notifications (page={}, size={})",
-                currentUserId, notificationResponses.size(),
-                searchRequest.getPage(), searchRequest.getSize()
-        );
+        log.info("User '{}' fetched {} notifications (size={}, filter={})",
+                currentUserId, notificationResponses.size(), page.getPageSize(), filter);
 
         if (filter.equals(NotificationFilter.UNREAD) || filter.equals(NotificationFilter.ALL)) {
-            for (Notification notification : userNotifications) {
-                notification.setIsRead(true);
-            }
-            redisCounter.refreshCountUnreadNotifications(currentUserId);
+            long[] unreadIds = userNotifications.stream()
+                    .filter(notification -> Boolean.FALSE.equals(notification.getIsRead()))
+                    .mapToLong(Notification::getId)
+                    .toArray();
+            markAsReadByIds(currentUserId, unreadIds);
         }
 
-        notificationRepository.saveAll(userNotifications);
+        String nextCursor = null;
+        if (userNotifications.hasNext() && userNotifications.hasContent()) {
+            Notification last = userNotifications.getContent().getLast();
+            nextCursor = cursorCodec.encodeNotificationCursor(last.getCreatedAt(), last.getId());
+        }
 
-        return notificationMapper.buildNotificationsPageResponse(notificationResponses, userNotifications);
+        return notificationMapper.buildNotificationsSliceResponse(notificationResponses, nextCursor);
     }
 
     @Override
@@ -98,12 +101,25 @@ public class NotificationServiceImpl implements NotificationService {
             notification.setIsRead(true);
             Notification saved = notificationRepository.save(notification);
             redisCounter.decrementCounter(currentUserId);
+            notificationPushPublisher.publishUnreadCountChanged(currentUserId);
             return notificationMapper.toDto(saved);
 
         }
         return notificationMapper.toDto(notification);
     }
 
+    @Override
+    public int markAllAsRead(Long currentUserId, Instant upTo) {
+        Instant cutoff = upTo != null ? upTo : Instant.now();
+        int marked = notificationRepository.markAllAsReadUpTo(currentUserId, cutoff);
+        if (marked > 0) {
+            redisCounter.decrementCounter(currentUserId, marked);
+            notificationPushPublisher.publishUnreadCountChanged(currentUserId);
+        }
+        log.info("User '{}' marked {} notifications as read up to {}", currentUserId, marked, cutoff);
+        return marked;
+    }
+
     @Transactional
     @Override
     public void deleteNotification(Long id, Long currentUserId) {
@@ -121,11 +137,13 @@ public class NotificationServiceImpl implements NotificationService {
         log.info("Deleted a notification '{}' by user '{}'", id, currentUserId);
 
         redisCounter.decrementCounter(currentUserId);
+        notificationPushPublisher.publishUnreadCountChanged(currentUserId);
     }
 
     @Transactional
     @Override
     public void deleteNotificationsForEntity(Long entityId, NotificationType type) {
+        notificationRepository.deleteAggregatedActors(entityId, type.name());
         List<Notification> notificationsToDelete = notificationRepository.findByEntityIdAndType(entityId, type);
         if (notificationsToDelete.isEmpty()) return;
 
@@ -142,49 +160,82 @@ public class NotificationServiceImpl implements NotificationService {
     @Override
     public void sendLikeNotification(Long senderId, Long likeId, Long postId) {
         Long postAuthorId = postClient.getPostAuthorId(postId);
-        Notification notification = notificationMapper.buildNotification(
-                senderId, postAuthorId, likeId, NotificationType.LIKE);
+        Instant bucketStart = Instant.now().truncatedTo(AGGREGATION_BUCKET);
 
-        redisCounter.incrementCounter(postAuthorId);
+        if (notificationRepository.addAggregatedActor(
+                senderId, postAuthorId, postId, NotificationType.LIKE.name(), bucketStart) == 0) {
+            log.debug("User '{}' is already counted in like notification of post '{}'", senderId, postId);
+            return;
+        }
+
+        boolean becameUnread = notificationRepository.upsertAggregatedNotification(
+                        senderId, postAuthorId, postId, NotificationType.LIKE.name(), bucketStart)
+                .orElse(false);
 
-        notificationRepository.save(notification);
+        if (becameUnread) {
+            redisCounter.incrementCounter(postAuthorId);
+        }
+        notificationPushPublisher.publishNotification(List.of(postAuthorId),
+                notificationMapper.buildPushNotification(senderId, postAuthorId, postId, NotificationType.LIKE));
     }
 
     @Transactional
     @Override
-    public void sendPostNotification(Long postId, Long authorId) {
-        List<SubscriptionDto> userSubscribers = getUserSubscribers(authorId);
-        List<Notification> buffer = new ArrayList<>();
-
-        if (!userSubscribers.isEmpty()) {
-            for (SubscriptionDto subscription : userSubscribers) {
-
-                Notification notification = notificationMapper.buildNotification(
-                        authorId, subscription.getFollowerId(), postId, NotificationType.POST);
-
-                buffer.add(notification);
-                redisCounter.incrementCounter(subscription.getFollowerId());
+    public void removeLikeNotification(Long senderId, Long postId) {
+        List<Long> receiversWithUnreadRemoved =
+                notificationRepository.removeAggregatedActor(senderId, postId, NotificationType.LIKE.name());
+
+        receiversWithUnreadRemoved.forEach(receiverId -> {
+            redisCounter.decrementCounter(receiverId);
+            notificationPushPublisher.publishUnreadCountChanged(receiverId);
+        });
+    }
 
-                if (buffer.size() == 50) {
-                    safeSaveNotifications(buffer);
-                    buffer.clear();
-                }
+    @Override
+    public void sendPostNotification(Long postId, Long authorId) {
+        NotificationResponse pushNotification =
+                notificationMapper.buildPushNotification(authorId, null, postId, NotificationType.POST);
+        long lastFollowerId = 0L;
+        int notified = 0;
+
+        List<Long> followerIds;
+        do {
+            followerIds = followerRepository.findFollowerIdsAfter(authorId, lastFollowerId, FAN_OUT_CHUNK_SIZE);
+            if (followerIds.isEmpty()) {
+                break;
             }
 
-            if (!buffer.isEmpty()) {
-                safeSaveNotifications(buffer);
+            List<Long> notifiedIds = notificationRepository.insertNotifications(authorId,
+                    followerIds.stream().mapToLong(Long::longValue).toArray(),
+                    postId, NotificationType.POST.name());
+            if (!notifiedIds.isEmpty()) {
+                redisCounter.incrementCounters(notifiedIds);
+                notificationPushPublisher.publishNotification(notifiedIds, pushNotification);
             }
-        }
+
+            notified += notifiedIds.size();
+            lastFollowerId = followerIds.get(followerIds.size() - 1);
+        } while (followerIds.size() == FAN_OUT_CHUNK_SIZE);
+
+        log.info("Fanned out post '{}' of user '{}' to {} followers", postId, authorId, notified);
     }
 
     @Transactional
     @Override
     public void sendFollowNotification(Long followerId, Long followeeId, Long subscriptionId) {
+        followerRepository.addFollower(followeeId, followerId);
+
         Notification notification = notificationMapper.buildNotification(
                 followerId, followeeId, subscriptionId, NotificationType.SUBSCRIPTION);
 
         redisCounter.incrementCounter(followeeId);
-        notificationRepository.save(notification);
+        Notification saved = notificationRepository.save(notification);
+        notificationPushPublisher.publishNotification(List.of(followeeId), notificationMapper.toDto(saved));
+    }
+
+    @Override
+    public void removeFollower(Long followeeId, Long followerId) {
+        followerRepository.removeFollower(followeeId, followerId);
     }
 
     @Override
@@ -195,30 +246,43 @@ public class NotificationServiceImpl implements NotificationService {
                 leftCommentUserId, postAuthorId, commentId, NotificationType.COMMENT);
 
         redisCounter.incrementCounter(postAuthorId);
-        notificationRepository.save(notification);
+        Notification saved = notificationRepository.save(notification);
+        notificationPushPublisher.publishNotification(List.of(postAuthorId), notificationMapper.toDto(saved));
     }
 
-    private Notification getNotificationByIdAndReceiverId(Long id, Long currentUserId) {
-        return notificationRepository.findByIdAndReceiverId(id, currentUserId)
-                .orElseThrow(() -> new NotFoundException(
-                        String.format("Notification with id '%d' and receiverId '%d 'not found", id, currentUserId)));
+    private Slice<Notification> findInboxSlice(Long receiverId, NotificationFilter filter,
+                                               Optional<NotificationCursor> cursor, Pageable page) {
+        if (cursor.isEmpty()) {
+            return switch (filter) {
+                case READ -> notificationRepository.findLatestReadByReceiverId(receiverId, page);
+                case UNREAD -> notificationRepository.findLatestUnreadByReceiverId(receiverId, page);
+                default -> notificationRepository.findLatestByReceiverId(receiverId, page);
+            };
+        }
+
+        Instant createdAt = cursor.get().createdAt();
+        long id = cursor.get().id();
+        return switch (filter) {
+            case READ -> notificationRepository.findReadByReceiverIdAfterCursor(receiverId, createdAt, id, page);
+            case UNREAD -> notificationRepository.findUnreadByReceiverIdAfterCursor(receiverId, createdAt, id, page);
+            default -> notificationRepository.findByReceiverIdAfterCursor(receiverId, createdAt, id, page);
+        };
     }
 
-    private void safeSaveNotifications(List<Notification> notificationsToSave) {
-        try {
-            notificationRepository.saveAll(notificationsToSave);
-        } catch (DataIntegrityViolationException e) {
-            log.warn("Duplicated notification entry detected, skipping duplicates: {}", e.getMessage());
+    private void markAsReadByIds(Long currentUserId, long[] ids) {
+        if (ids.length == 0) {
+            return;
+        }
+        int marked = notificationRepository.markAsReadByIds(currentUserId, ids);
+        if (marked > 0) {
+            redisCounter.decrementCounter(currentUserId, marked);
+            notificationPushPublisher.publishUnreadCountChanged(currentUserId);
         }
     }
 
-    private List<SubscriptionDto> getUserSubscribers(Long authorId) {
-        List<SubscriptionDto> userSubscribers = Collections.emptyList();
-        try {
-            userSubscribers = feedClient.getUserSubscribers(authorId);
-        } catch (FeignException e) {
-            log.warn("Error during getting user's subscribers. Skip creating notification");
-        }
-        return userSubscribers;
+    private Notification getNotificationByIdAndReceiverId(Long id, Long currentUserId) {
+        return notificationRepository.findByIdAndReceiverId(id, currentUserId)
+                .orElseThrow(() -> new NotFoundException(
+                        String.format("Notification with id '%d' and receiverId '%d 'not found", id, currentUserId)));
     }
 }
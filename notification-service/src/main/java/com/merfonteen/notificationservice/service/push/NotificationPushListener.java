@@ -0,0 +1,30 @@
+package com.merfonteen.notificationservice.service.push;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.merfonteen.notificationservice.dto.NotificationPushMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.io.IOException;
+
+@Slf4j
+@RequiredArgsConstructor
+public class NotificationPushListener implements MessageListener {
+    private final ObjectMapper objectMapper;
+    private final NotificationStreamRegistry notificationStreamRegistry;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        if (!notificationStreamRegistry.hasStreams()) {
+            return;
+        }
+        try {
+            NotificationPushMessage push = objectMapper.readValue(message.getBody(), NotificationPushMessage.class);
+            notificationStreamRegistry.deliver(push.getReceiverIds(), push.getNotification());
+        } catch (IOException e) {
+            log.warn("Skipping malformed push message: {}", e.getMessage());
+        }
+    }
+}
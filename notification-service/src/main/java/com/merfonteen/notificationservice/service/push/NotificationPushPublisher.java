@@ -0,0 +1,57 @@
+package com.merfonteen.notificationservice.service.push;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.merfonteen.notificationservice.dto.NotificationPushMessage;
+import com.merfonteen.notificationservice.dto.NotificationResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Broadcasts notification changes to every instance over Redis pub/sub.
+ * Messages are sent after the surrounding transaction commits, so a pushed client never reads ahead of the database.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class NotificationPushPublisher {
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String channel;
+
+    public void publishNotification(Collection<Long> receiverIds, NotificationResponse notification) {
+        if (receiverIds.isEmpty()) {
+            return;
+        }
+        publish(new NotificationPushMessage(List.copyOf(receiverIds), notification));
+    }
+
+    public void publishUnreadCountChanged(Long receiverId) {
+        publish(new NotificationPushMessage(List.of(receiverId), null));
+    }
+
+    private void publish(NotificationPushMessage message) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(message);
+                }
+            });
+            return;
+        }
+        send(message);
+    }
+
+    private void send(NotificationPushMessage message) {
+        try {
+            stringRedisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(message));
+        } catch (Exception e) {
+            log.warn("Failed to publish push message for {} receivers: {}", message.getReceiverIds().size(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.merfonteen.notificationservice.service.push;
+
+import com.merfonteen.notificationservice.dto.NotificationResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Holds the SSE streams opened against this instance.
+ * Every write to a client happens on its own virtual thread, so a slow consumer never stalls the pub/sub listener.
+ */
+@Slf4j
+public class NotificationStreamRegistry {
+    private static final int MAX_STREAMS_PER_USER = 5;
+
+    private final Duration emitterTimeout;
+    private final Function<Long, Long> unreadCounter;
+    private final Map<Long, Set<SseEmitter>> streams = new ConcurrentHashMap<>();
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+
+    public NotificationStreamRegistry(Duration emitterTimeout, Function<Long, Long> unreadCounter) {
+        this.emitterTimeout = emitterTimeout;
+        this.unreadCounter = unreadCounter;
+    }
+
+    public SseEmitter open(Long userId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeout.toMillis());
+        emitter.onCompletion(() -> remove(userId, emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> remove(userId, emitter));
+
+        Set<SseEmitter> userStreams = streams.computeIfAbsent(userId, id -> new CopyOnWriteArraySet<>());
+        userStreams.add(emitter);
+        if (userStreams.size() > MAX_STREAMS_PER_USER) {
+            Iterator<SseEmitter> oldest = userStreams.iterator();
+            if (oldest.hasNext()) {
+                oldest.next().complete();
+            }
+        }
+
+        sender.execute(() -> sendUnreadCount(userId, Set.of(emitter)));
+        return emitter;
+    }
+
+    public boolean hasStreams() {
+        return !streams.isEmpty();
+    }
+
+    public void deliver(Collection<Long> receiverIds, NotificationResponse notification) {
+        for (Long receiverId : receiverIds) {
+            Set<SseEmitter> userStreams = streams.get(receiverId);
+            if (userStreams == null || userStreams.isEmpty()) {
+                continue;
+            }
+            sender.execute(() -> {
+                if (notification != null) {
+                    for (SseEmitter emitter : userStreams) {
+                        send(receiverId, emitter, SseEmitter.event().name("notification").data(notification));
+                    }
+                }
+                sendUnreadCount(receiverId, userStreams);
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${notification.push.heartbeat-interval}")
+    public void heartbeat() {
+        streams.forEach((userId, userStreams) -> sender.execute(() -> {
+            for (SseEmitter emitter : userStreams) {
+                send(userId, emitter, SseEmitter.event().comment("ping"));
+            }
+        }));
+    }
+
+    public void shutdown() {
+        streams.values().forEach(userStreams -> userStreams.forEach(SseEmitter::complete));
+        streams.clear();
+        sender.shutdown();
+    }
+
+    private void sendUnreadCount(Long userId, Set<SseEmitter> emitters) {
+        Long unread;
+        try {
+            unread = unreadCounter.apply(userId);
+        } catch (Exception e) {
+            log.warn("Failed to resolve unread count for user '{}': {}", userId, e.getMessage());
+            return;
+        }
+        for (SseEmitter emitter : emitters) {
+            send(userId, emitter, SseEmitter.event().name("unread-count").data(unread));
+        }
+    }
+
+    private void send(Long userId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            remove(userId, emitter);
+        }
+    }
+
+    private void remove(Long userId, SseEmitter emitter) {
+        streams.computeIfPresent(userId, (id, userStreams) -> {
+            userStreams.remove(emitter);
+            return userStreams.isEmpty() ? null : userStreams;
+        });
+    }
+}
@@ -1,16 +1,34 @@
 package com.merfonteen.notificationservice.service.redis;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
 
 @RequiredArgsConstructor
 @Component
 public class RedisCounter {
     private static final String UNREAD_NOTIFICATIONS_CACHE_KEY = "user:notifications:unread:count:";
 
+    private static final RedisScript<Long> DECREMENT_EXISTING_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return -1
+            end
+            local value = redis.call('DECRBY', KEYS[1], ARGV[1])
+            if value < 0 then
+                redis.call('SET', KEYS[1], '0', 'KEEPTTL')
+                return 0
+            end
+            return value
+            """, Long.class);
+
     private final StringRedisTemplate stringRedisTemplate;
 
     public String getCachedValue(Long userId) {
@@ -29,11 +47,20 @@ public class RedisCounter {
         stringRedisTemplate.opsForValue().increment(buildCacheKey(userId));
     }
 
+    public void incrementCounters(Collection<Long> userIds) {
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            userIds.forEach(userId -> stringConnection.incr(buildCacheKey(userId)));
+            return null;
+        });
+    }
+
     public void decrementCounter(Long userId) {
-        String key = buildCacheKey(userId);
-        if(stringRedisTemplate.hasKey(key)) {
-            stringRedisTemplate.opsForValue().decrement(key);
-        }
+        decrementCounter(userId, 1);
+    }
+
+    public void decrementCounter(Long userId, long delta) {
+        stringRedisTemplate.execute(DECREMENT_EXISTING_SCRIPT, List.of(buildCacheKey(userId)), String.valueOf(delta));
     }
 
     private String buildCacheKey(Long userId) {
@@ -0,0 +1,39 @@
+package com.merfonteen.notificationservice.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.merfonteen.exceptions.BadRequestException;
+import com.merfonteen.notificationservice.model.cursors.NotificationCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+@Component
+public class CursorCodec {
+    private final ObjectMapper objectMapper;
+
+    public String encodeNotificationCursor(Instant createdAt, long id) {
+        try {
+            String json = objectMapper.writeValueAsString(new NotificationCursor(createdAt, id));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+        } catch (Exception ex) {
+            throw new IllegalStateException("Failed to encode cursor", ex);
+        }
+    }
+
+    public Optional<NotificationCursor> decodeNotificationCursor(String encodedCursor) {
+        if (encodedCursor == null || encodedCursor.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            byte[] raw = Base64.getUrlDecoder().decode(encodedCursor);
+            return Optional.of(objectMapper.readValue(new String(raw, StandardCharsets.UTF_8), NotificationCursor.class));
+        } catch (Exception ex) {
+            throw new BadRequestException("Bad cursor");
+        }
+    }
+}
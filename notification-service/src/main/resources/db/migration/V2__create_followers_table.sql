@@ -0,0 +1,7 @@
+CREATE TABLE notification_service.followers
+(
+    followee_id BIGINT    NOT NULL,
+    follower_id BIGINT    NOT NULL,
+    created_at  TIMESTAMP NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (followee_id, follower_id)
+);
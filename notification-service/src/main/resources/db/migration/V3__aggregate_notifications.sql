@@ -0,0 +1,10 @@
+ALTER TABLE notification_service.notifications
+    ADD COLUMN actor_count    INT       NOT NULL DEFAULT 1,
+    ADD COLUMN last_actor_ids BIGINT[]  NOT NULL DEFAULT '{}',
+    ADD COLUMN bucket_start   TIMESTAMP;
+
+ALTER TABLE notification_service.notifications DROP COLUMN message;
+
+CREATE UNIQUE INDEX uq_notifications_aggregate
+    ON notification_service.notifications (receiver_id, type, entity_id, bucket_start)
+    WHERE bucket_start IS NOT NULL;
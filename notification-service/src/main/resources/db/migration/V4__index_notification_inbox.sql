@@ -0,0 +1,8 @@
+CREATE INDEX idx_notifications_receiver_created_at_id
+    ON notification_service.notifications (receiver_id, created_at DESC, id DESC);
+
+CREATE INDEX idx_notifications_receiver_unread_created_at_id
+    ON notification_service.notifications (receiver_id, created_at DESC, id DESC)
+    WHERE is_read = FALSE;
+
+DROP INDEX IF EXISTS notification_service.idx_notifications_receiver_id;
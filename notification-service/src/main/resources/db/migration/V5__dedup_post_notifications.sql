@@ -0,0 +1,12 @@
+-- A redelivered post-created event must not notify the same follower twice.
+DELETE FROM notification_service.notifications n
+USING notification_service.notifications d
+WHERE n.type = 'POST'
+  AND d.type = 'POST'
+  AND n.receiver_id = d.receiver_id
+  AND n.entity_id = d.entity_id
+  AND n.id > d.id;
+
+CREATE UNIQUE INDEX uq_notifications_post
+    ON notification_service.notifications (receiver_id, type, entity_id)
+    WHERE type = 'POST';
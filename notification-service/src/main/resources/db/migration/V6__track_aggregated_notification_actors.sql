@@ -0,0 +1,73 @@
+-- Every actor of an aggregated notification, so a repeated action is counted once however many others came after it.
+CREATE TABLE notification_service.notification_actors
+(
+    receiver_id  BIGINT      NOT NULL,
+    type         VARCHAR(50) NOT NULL,
+    entity_id    BIGINT      NOT NULL,
+    bucket_start TIMESTAMP   NOT NULL,
+    actor_id     BIGINT      NOT NULL,
+    PRIMARY KEY (receiver_id, type, entity_id, bucket_start, actor_id)
+);
+
+CREATE INDEX idx_notification_actors_entity_actor
+    ON notification_service.notification_actors (entity_id, type, actor_id);
+
+INSERT INTO notification_service.notification_actors (receiver_id, type, entity_id, bucket_start, actor_id)
+SELECT n.receiver_id, n.type, n.entity_id, n.bucket_start, a.actor_id
+FROM notification_service.notifications n
+CROSS JOIN LATERAL unnest(n.last_actor_ids) AS a(actor_id)
+WHERE n.bucket_start IS NOT NULL
+ON CONFLICT DO NOTHING;
+
+-- Rows written before V3 keep an empty actor list.
+UPDATE notification_service.notifications
+SET last_actor_ids = ARRAY[sender_id]
+WHERE last_actor_ids = '{}';
+
+-- Legacy LIKE rows point at the like id and were never removed on unlike.
+-- Where like_service.likes is reachable (single shared database), re-key the live ones to their post as hourly
+-- aggregates and drop the rest. With a database per service the rows are kept as they are; they carry no post id,
+-- so they are rendered without one.
+DO
+$$
+    BEGIN
+        IF to_regclass('like_service.likes') IS NOT NULL THEN
+            CREATE TEMP TABLE legacy_likes ON COMMIT DROP AS
+            SELECT n.sender_id,
+                   n.receiver_id,
+                   l.post_id,
+                   n.is_read,
+                   n.created_at,
+                   date_trunc('hour', n.created_at) AS bucket_start
+            FROM notification_service.notifications n
+            JOIN like_service.likes l ON l.id = n.entity_id
+            WHERE n.type = 'LIKE'
+              AND n.bucket_start IS NULL;
+
+            INSERT INTO notification_service.notifications
+                (sender_id, receiver_id, entity_id, type, is_read, created_at, actor_count, last_actor_ids, bucket_start)
+            SELECT (array_agg(a.sender_id ORDER BY a.last_at DESC))[1],
+                   a.receiver_id,
+                   a.post_id,
+                   'LIKE',
+                   bool_and(a.is_read),
+                   max(a.last_at),
+                   count(*),
+                   (array_agg(a.sender_id ORDER BY a.last_at DESC))[1:5],
+                   a.bucket_start
+            FROM (SELECT receiver_id, post_id, bucket_start, sender_id,
+                         max(created_at) AS last_at, bool_and(is_read) AS is_read
+                  FROM legacy_likes
+                  GROUP BY receiver_id, post_id, bucket_start, sender_id) a
+            GROUP BY a.receiver_id, a.post_id, a.bucket_start
+            ON CONFLICT DO NOTHING;
+
+            INSERT INTO notification_service.notification_actors (receiver_id, type, entity_id, bucket_start, actor_id)
+            SELECT DISTINCT receiver_id, 'LIKE', post_id, bucket_start, sender_id
+            FROM legacy_likes
+            ON CONFLICT DO NOTHING;
+
+            DELETE FROM notification_service.notifications WHERE type = 'LIKE' AND bucket_start IS NULL;
+        END IF;
+    END
+$$;
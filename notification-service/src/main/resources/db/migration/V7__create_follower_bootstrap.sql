@@ -0,0 +1,11 @@
+-- Progress of the one-time copy of the follow graph from feed-service into notification_service.followers.
+-- locked_until is a lease, so only one instance pages through feed-service at a time.
+CREATE TABLE notification_service.follower_bootstrap
+(
+    id                   SMALLINT PRIMARY KEY CHECK (id = 1),
+    last_subscription_id BIGINT NOT NULL DEFAULT 0,
+    locked_until         TIMESTAMP,
+    completed_at         TIMESTAMP
+);
+
+INSERT INTO notification_service.follower_bootstrap (id) VALUES (1);
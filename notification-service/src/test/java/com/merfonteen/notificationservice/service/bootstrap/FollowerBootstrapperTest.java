@@ -0,0 +1,95 @@
+package com.merfonteen.notificationservice.service.bootstrap;
+
+import com.merfonteen.notificationservice.client.FeedClient;
+import com.merfonteen.notificationservice.dto.SubscriptionDto;
+import com.merfonteen.notificationservice.repository.FollowerBootstrapRepository;
+import com.merfonteen.notificationservice.repository.FollowerRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static com.merfonteen.notificationservice.service.bootstrap.FollowerBootstrapperTest.TestResources.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FollowerBootstrapperTest {
+
+    @Mock
+    private FeedClient feedClient;
+
+    @Mock
+    private FollowerRepository followerRepository;
+
+    @Mock
+    private FollowerBootstrapRepository followerBootstrapRepository;
+
+    @InjectMocks
+    private FollowerBootstrapper followerBootstrapper;
+
+    @Test
+    void testRun_ShouldCopyPagesAndComplete_WhenClaimed() {
+        when(followerBootstrapRepository.claim(any(), any())).thenReturn(Optional.of(LAST_SAVED_ID));
+        when(feedClient.getSubscriptionsAfter(LAST_SAVED_ID, 1000)).thenReturn(List.of(
+                buildSubscription(FIRST_SUBSCRIPTION_ID, FOLLOWER_ID, FIRST_FOLLOWEE_ID),
+                buildSubscription(SECOND_SUBSCRIPTION_ID, FOLLOWER_ID, SECOND_FOLLOWEE_ID)));
+        when(feedClient.getSubscriptionsAfter(SECOND_SUBSCRIPTION_ID, 1000)).thenReturn(List.of());
+        when(followerRepository.addFollowers(any(long[].class), any(long[].class))).thenReturn(2);
+
+        followerBootstrapper.run();
+
+        verify(followerRepository).addFollowers(
+                new long[]{FIRST_FOLLOWEE_ID, SECOND_FOLLOWEE_ID},
+                new long[]{FOLLOWER_ID, FOLLOWER_ID});
+        verify(followerBootstrapRepository).saveProgress(eq(SECOND_SUBSCRIPTION_ID), any());
+        verify(followerBootstrapRepository).complete(any());
+        verify(followerBootstrapRepository, never()).release();
+    }
+
+    @Test
+    void testRun_ShouldDoNothing_WhenAnotherInstanceHoldsLeaseOrBootstrapIsDone() {
+        when(followerBootstrapRepository.claim(any(), any())).thenReturn(Optional.empty());
+
+        followerBootstrapper.run();
+
+        verifyNoInteractions(feedClient, followerRepository);
+        verify(followerBootstrapRepository, never()).complete(any());
+    }
+
+    @Test
+    void testRun_ShouldReleaseLeaseWithoutCompleting_WhenFeedServiceFails() {
+        when(followerBootstrapRepository.claim(any(), any())).thenReturn(Optional.of(LAST_SAVED_ID));
+        when(feedClient.getSubscriptionsAfter(anyLong(), anyInt())).thenThrow(new IllegalStateException("feed-service down"));
+
+        followerBootstrapper.run();
+
+        verify(followerBootstrapRepository).release();
+        verify(followerBootstrapRepository, never()).complete(any());
+        verifyNoInteractions(followerRepository);
+    }
+
+    static class TestResources {
+        static final long LAST_SAVED_ID = 100L;
+        static final long FIRST_SUBSCRIPTION_ID = 101L;
+        static final long SECOND_SUBSCRIPTION_ID = 105L;
+        static final long FOLLOWER_ID = 7L;
+        static final long FIRST_FOLLOWEE_ID = 20L;
+        static final long SECOND_FOLLOWEE_ID = 30L;
+
+        static SubscriptionDto buildSubscription(Long id, Long followerId, Long followeeId) {
+            return SubscriptionDto.builder()
+                    .id(id)
+                    .followerId(followerId)
+                    .followeeId(followeeId)
+                    .build();
+        }
+    }
+}
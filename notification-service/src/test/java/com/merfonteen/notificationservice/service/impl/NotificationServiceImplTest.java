@@ -2,27 +2,32 @@ package com.merfonteen.notificationservice.service.impl;
 
 import com.merfonteen.exceptions.BadRequestException;
 import com.merfonteen.exceptions.NotFoundException;
-import com.merfonteen.notificationservice.client.FeedClient;
 import com.merfonteen.notificationservice.client.PostClient;
 import com.merfonteen.notificationservice.dto.NotificationResponse;
-import com.merfonteen.notificationservice.dto.NotificationsPageResponse;
+import com.merfonteen.notificationservice.dto.NotificationsSliceResponse;
 import com.merfonteen.notificationservice.dto.NotificationsSearchRequest;
 import com.merfonteen.notificationservice.mapper.NotificationMapper;
 import com.merfonteen.notificationservice.model.Notification;
+import com.merfonteen.notificationservice.model.cursors.NotificationCursor;
+import com.merfonteen.notificationservice.model.enums.NotificationType;
+import com.merfonteen.notificationservice.repository.FollowerRepository;
 import com.merfonteen.notificationservice.repository.NotificationRepository;
+import com.merfonteen.notificationservice.service.push.NotificationPushPublisher;
 import com.merfonteen.notificationservice.service.redis.RedisCounter;
+import com.merfonteen.notificationservice.util.CursorCodec;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static com.merfonteen.notificationservice.service.impl.NotificationServiceImplTest.TestResources.*;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -37,7 +42,7 @@ class NotificationServiceImplTest {
     private PostClient postClient;
 
     @Mock
-    private FeedClient feedClient;
+    private CursorCodec cursorCodec;
 
     @Mock
     private RedisCounter redisCounter;
@@ -45,6 +50,12 @@ class NotificationServiceImplTest {
     @Mock
     private NotificationMapper notificationMapper;
 
+    @Mock
+    private FollowerRepository followerRepository;
+
+    @Mock
+    private NotificationPushPublisher notificationPushPublisher;
+
     @Mock
     private NotificationRepository notificationRepository;
 
@@ -52,42 +63,87 @@ class NotificationServiceImplTest {
     private NotificationServiceImpl notificationService;
 
     @Test
-    void testGetMyNotifications_ShouldReturnAllNotifications_WhenNoFilterProvided() {
+    void testGetMyNotifications_ShouldReturnLatestSliceWithNextCursor_WhenNoCursorProvided() {
         Notification notification = buildNotification();
-        NotificationResponse notificationResponse = buildNotificationResponse(notification);
-        List<NotificationResponse> notificationDtos = List.of(notificationResponse);
-        PageRequest pageRequest = buildPageRequest();
+        List<NotificationResponse> notificationDtos = List.of(buildNotificationResponse(notification));
+        Pageable page = Pageable.ofSize(SIZE);
+        Slice<Notification> slice = new SliceImpl<>(List.of(notification), page, true);
 
-        Page<Notification> pageMock = new PageImpl<>(List.of(notification));
+        when(cursorCodec.decodeNotificationCursor(null)).thenReturn(Optional.empty());
+        when(notificationRepository.findLatestByReceiverId(USER_ID, page)).thenReturn(slice);
+        when(notificationMapper.toDtos(slice.getContent())).thenReturn(notificationDtos);
+        when(cursorCodec.encodeNotificationCursor(CREATED_AT, NOTIFICATION_ID)).thenReturn(NEXT_CURSOR);
+        when(notificationMapper.buildNotificationsSliceResponse(notificationDtos, NEXT_CURSOR))
+                .thenReturn(buildNotificationSliceResponse(notificationDtos, NEXT_CURSOR));
 
-        when(notificationMapper.buildPageRequest(PAGE, SIZE)).thenReturn(pageRequest);
-        when(notificationRepository.findAllByReceiverId(USER_ID, pageRequest)).thenReturn(pageMock);
-        when(notificationMapper.toDtos(pageMock.getContent())).thenReturn(notificationDtos);
-        when(notificationMapper.buildNotificationsPageResponse(notificationDtos, pageMock))
-                .thenReturn(buildNotificationPageResponse(notificationDtos));
-
-        NotificationsPageResponse result = notificationService.getMyNotifications(USER_ID, buildSearchRequest(""));
+        NotificationsSliceResponse result = notificationService.getMyNotifications(USER_ID, buildSearchRequest("", null));
 
         assertThat(result.getNotifications()).isEqualTo(notificationDtos);
+        assertThat(result.getNextCursor()).isEqualTo(NEXT_CURSOR);
     }
 
     @Test
-    void testGetMyNotifications_ShouldReturnUnread_WhenFilterIsUnread() {
+    void testGetMyNotifications_ShouldReadUnreadAfterCursor_WhenFilterIsUnreadAndCursorProvided() {
         Notification notification = buildNotification();
-        NotificationResponse notificationResponse = buildNotificationResponse(notification);
-        List<NotificationResponse> notificationDtos = List.of(notificationResponse);
-        Page<Notification> pageMock = new PageImpl<>(List.of(notification));
-        PageRequest pageRequest = buildPageRequest();
+        List<NotificationResponse> notificationDtos = List.of(buildNotificationResponse(notification));
+        Pageable page = Pageable.ofSize(SIZE);
+        Slice<Notification> lastSlice = new SliceImpl<>(List.of(notification), page, false);
 
-        when(notificationMapper.buildPageRequest(PAGE, SIZE)).thenReturn(pageRequest);
-        when(notificationMapper.toDtos(pageMock.getContent())).thenReturn(notificationDtos);
-        when(notificationRepository.findAllByReceiverIdAndIsReadFalse(USER_ID, pageRequest)).thenReturn(pageMock);
-        when(notificationMapper.buildNotificationsPageResponse(notificationDtos, pageMock))
-                .thenReturn(buildNotificationPageResponse(notificationDtos));
+        when(cursorCodec.decodeNotificationCursor(NEXT_CURSOR))
+                .thenReturn(Optional.of(new NotificationCursor(CREATED_AT, ANOTHER_NOTIFICATION_ID)));
+        when(notificationRepository.findUnreadByReceiverIdAfterCursor(USER_ID, CREATED_AT, ANOTHER_NOTIFICATION_ID, page))
+                .thenReturn(lastSlice);
+        when(notificationMapper.toDtos(lastSlice.getContent())).thenReturn(notificationDtos);
+        when(notificationMapper.buildNotificationsSliceResponse(notificationDtos, null))
+                .thenReturn(buildNotificationSliceResponse(notificationDtos, null));
 
-        NotificationsPageResponse result = notificationService.getMyNotifications(USER_ID, buildSearchRequest("unread"));
+        NotificationsSliceResponse result =
+                notificationService.getMyNotifications(USER_ID, buildSearchRequest("unread", NEXT_CURSOR));
 
         assertThat(result.getNotifications()).isEqualTo(notificationDtos);
+        assertThat(result.getHasNext()).isFalse();
+        verify(cursorCodec, never()).encodeNotificationCursor(any(), anyLong());
+    }
+
+    @Test
+    void testGetMyNotifications_ShouldMarkPageAsReadInOneUpdateAndDecrementByAffectedRows() {
+        Notification unread = buildNotification();
+        Notification read = buildNotification(true);
+        read.setId(ANOTHER_NOTIFICATION_ID);
+        Pageable page = Pageable.ofSize(SIZE);
+        Slice<Notification> slice = new SliceImpl<>(List.of(unread, read), page, false);
+
+        when(cursorCodec.decodeNotificationCursor(null)).thenReturn(Optional.empty());
+        when(notificationRepository.findLatestByReceiverId(USER_ID, page)).thenReturn(slice);
+        when(notificationRepository.markAsReadByIds(USER_ID, new long[]{NOTIFICATION_ID})).thenReturn(1);
+
+        notificationService.getMyNotifications(USER_ID, buildSearchRequest("", null));
+
+        verify(redisCounter).decrementCounter(USER_ID, 1);
+        verify(notificationRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void testMarkAllAsRead_ShouldDecrementCounterByMarkedCount() {
+        Instant upTo = Instant.parse("2025-01-01T00:00:00Z");
+        when(notificationRepository.markAllAsReadUpTo(USER_ID, upTo)).thenReturn(7);
+
+        int result = notificationService.markAllAsRead(USER_ID, upTo);
+
+        assertThat(result).isEqualTo(7);
+        verify(redisCounter).decrementCounter(USER_ID, 7);
+        verify(notificationPushPublisher).publishUnreadCountChanged(USER_ID);
+    }
+
+    @Test
+    void testMarkAllAsRead_ShouldNotTouchCounter_WhenNothingMarked() {
+        when(notificationRepository.markAllAsReadUpTo(eq(USER_ID), any(Instant.class))).thenReturn(0);
+
+        int result = notificationService.markAllAsRead(USER_ID, null);
+
+        assertThat(result).isZero();
+        verify(redisCounter, never()).decrementCounter(anyLong(), anyLong());
+        verify(notificationPushPublisher, never()).publishUnreadCountChanged(anyLong());
     }
 
     @Test
@@ -161,20 +217,130 @@ class NotificationServiceImplTest {
         verify(notificationRepository, never()).delete(any());
     }
 
+    @Test
+    void testSendPostNotification_ShouldInsertFollowersInChunks() {
+        List<Long> firstChunk = buildFollowerIds(1, NotificationServiceImpl.FAN_OUT_CHUNK_SIZE);
+        List<Long> secondChunk = List.of(5000L, 5001L);
+        Long lastIdOfFirstChunk = firstChunk.get(firstChunk.size() - 1);
+
+        when(followerRepository.findFollowerIdsAfter(USER_ID, 0L, NotificationServiceImpl.FAN_OUT_CHUNK_SIZE))
+                .thenReturn(firstChunk);
+        when(followerRepository.findFollowerIdsAfter(USER_ID, lastIdOfFirstChunk, NotificationServiceImpl.FAN_OUT_CHUNK_SIZE))
+                .thenReturn(secondChunk);
+        when(notificationRepository.insertNotifications(
+                eq(USER_ID), any(long[].class), eq(POST_ID), eq(NotificationType.POST.name())))
+                .thenReturn(firstChunk, secondChunk);
+
+        notificationService.sendPostNotification(POST_ID, USER_ID);
+
+        verify(notificationRepository, times(2)).insertNotifications(
+                eq(USER_ID), any(long[].class), eq(POST_ID), eq(NotificationType.POST.name()));
+        verify(redisCounter).incrementCounters(firstChunk);
+        verify(redisCounter).incrementCounters(secondChunk);
+        verify(notificationPushPublisher).publishNotification(eq(firstChunk), any());
+        verify(notificationPushPublisher).publishNotification(eq(secondChunk), any());
+        verify(followerRepository, times(2)).findFollowerIdsAfter(anyLong(), anyLong(), anyInt());
+    }
+
+    @Test
+    void testSendPostNotification_ShouldNotCountAgain_WhenFollowersWereAlreadyNotified() {
+        List<Long> followerIds = List.of(5000L, 5001L);
+
+        when(followerRepository.findFollowerIdsAfter(USER_ID, 0L, NotificationServiceImpl.FAN_OUT_CHUNK_SIZE))
+                .thenReturn(followerIds);
+        when(notificationRepository.insertNotifications(
+                eq(USER_ID), any(long[].class), eq(POST_ID), eq(NotificationType.POST.name())))
+                .thenReturn(List.of());
+
+        notificationService.sendPostNotification(POST_ID, USER_ID);
+
+        verify(redisCounter, never()).incrementCounters(any());
+        verify(notificationPushPublisher, never()).publishNotification(any(), any());
+    }
+
+    @Test
+    void testSendPostNotification_ShouldDoNothing_WhenAuthorHasNoFollowers() {
+        when(followerRepository.findFollowerIdsAfter(USER_ID, 0L, NotificationServiceImpl.FAN_OUT_CHUNK_SIZE))
+                .thenReturn(List.of());
+
+        notificationService.sendPostNotification(POST_ID, USER_ID);
+
+        verify(notificationRepository, never()).insertNotifications(any(), any(), any(), any());
+        verify(redisCounter, never()).incrementCounters(any());
+    }
+
+    @Test
+    void testSendLikeNotification_ShouldIncrementCounter_WhenAggregateBecomesUnread() {
+        when(postClient.getPostAuthorId(POST_ID)).thenReturn(POST_AUTHOR_ID);
+        when(notificationRepository.addAggregatedActor(
+                eq(USER_ID), eq(POST_AUTHOR_ID), eq(POST_ID), eq(NotificationType.LIKE.name()), any(Instant.class)))
+                .thenReturn(1);
+        when(notificationRepository.upsertAggregatedNotification(
+                eq(USER_ID), eq(POST_AUTHOR_ID), eq(POST_ID), eq(NotificationType.LIKE.name()), any(Instant.class)))
+                .thenReturn(Optional.of(true));
+
+        notificationService.sendLikeNotification(USER_ID, LIKE_ID, POST_ID);
+
+        verify(redisCounter).incrementCounter(POST_AUTHOR_ID);
+    }
+
+    @Test
+    void testSendLikeNotification_ShouldNotIncrementCounter_WhenAggregateAlreadyUnread() {
+        when(postClient.getPostAuthorId(POST_ID)).thenReturn(POST_AUTHOR_ID);
+        when(notificationRepository.addAggregatedActor(
+                eq(USER_ID), eq(POST_AUTHOR_ID), eq(POST_ID), eq(NotificationType.LIKE.name()), any(Instant.class)))
+                .thenReturn(1);
+        when(notificationRepository.upsertAggregatedNotification(
+                eq(USER_ID), eq(POST_AUTHOR_ID), eq(POST_ID), eq(NotificationType.LIKE.name()), any(Instant.class)))
+                .thenReturn(Optional.of(false));
+
+        notificationService.sendLikeNotification(USER_ID, LIKE_ID, POST_ID);
+
+        verify(redisCounter, never()).incrementCounter(anyLong());
+    }
+
+    @Test
+    void testSendLikeNotification_ShouldSkip_WhenActorAlreadyCounted() {
+        when(postClient.getPostAuthorId(POST_ID)).thenReturn(POST_AUTHOR_ID);
+        when(notificationRepository.addAggregatedActor(
+                eq(USER_ID), eq(POST_AUTHOR_ID), eq(POST_ID), eq(NotificationType.LIKE.name()), any(Instant.class)))
+                .thenReturn(0);
+
+        notificationService.sendLikeNotification(USER_ID, LIKE_ID, POST_ID);
+
+        verify(notificationRepository, never()).upsertAggregatedNotification(any(), any(), any(), any(), any());
+        verify(redisCounter, never()).incrementCounter(anyLong());
+        verify(notificationPushPublisher, never()).publishNotification(any(), any());
+    }
+
+    @Test
+    void testRemoveLikeNotification_ShouldDecrementCounter_ForRemovedUnreadAggregates() {
+        when(notificationRepository.removeAggregatedActor(USER_ID, POST_ID, NotificationType.LIKE.name()))
+                .thenReturn(List.of(POST_AUTHOR_ID));
+
+        notificationService.removeLikeNotification(USER_ID, POST_ID);
+
+        verify(redisCounter).decrementCounter(POST_AUTHOR_ID);
+    }
+
     static class TestResources {
         static final Long NOTIFICATION_ID = 1L;
+        static final Long ANOTHER_NOTIFICATION_ID = 2L;
         static final Long USER_ID = 100L;
         static final Long ANOTHER_USER_ID = 200L;
-        static final int PAGE = 0;
+        static final Long POST_ID = 300L;
+        static final Long LIKE_ID = 500L;
+        static final Long POST_AUTHOR_ID = 400L;
         static final int SIZE = 10;
+        static final Instant CREATED_AT = Instant.parse("2025-01-01T00:00:00Z");
+        static final String NEXT_CURSOR = "next-cursor";
 
-        static PageRequest buildPageRequest() {
-            return PageRequest.of(PAGE, SIZE, Sort.by(Sort.Direction.DESC, "createdAt"));
-        }
-
-        static NotificationsPageResponse buildNotificationPageResponse(List<NotificationResponse> notificationDtos) {
-            return NotificationsPageResponse.builder()
+        static NotificationsSliceResponse buildNotificationSliceResponse(List<NotificationResponse> notificationDtos,
+                                                                         String nextCursor) {
+            return NotificationsSliceResponse.builder()
                     .notifications(notificationDtos)
+                    .nextCursor(nextCursor)
+                    .hasNext(nextCursor != null)
                     .build();
         }
 
@@ -183,6 +349,7 @@ class NotificationServiceImplTest {
                     .id(NOTIFICATION_ID)
                     .receiverId(USER_ID)
                     .isRead(false)
+                    .createdAt(CREATED_AT)
                     .build();
         }
 
@@ -210,10 +377,14 @@ class NotificationServiceImplTest {
                     .build();
         }
 
-        static NotificationsSearchRequest buildSearchRequest(String filter) {
+        static List<Long> buildFollowerIds(long from, int count) {
+            return LongStream.range(from, from + count).boxed().toList();
+        }
+
+        static NotificationsSearchRequest buildSearchRequest(String filter, String cursor) {
             return NotificationsSearchRequest.builder()
-                    .page(PAGE)
                     .size(SIZE)
+                    .cursor(cursor)
                     .filterRaw(filter)
                     .build();
         }
@@ -47,6 +47,11 @@ public class PostController {
         return ResponseEntity.ok(postService.getPostAuthorId(id));
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<PostResponse>> getPostsByIds(@RequestBody List<Long> ids) {
+        return ResponseEntity.ok(postService.getPostsByIds(ids));
+    }
+
     @GetMapping("/{id}/media")
     public ResponseEntity<List<String>> getMediaUrlsForPost(@PathVariable("id") Long id) {
         return ResponseEntity.ok(postMediaService.getMediaUrlsForPost(id));
@@ -2,13 +2,12 @@ package com.merfonteen.postservice.kafka;
 
 import com.merfonteen.kafkaEvents.PostCreatedEvent;
 import com.merfonteen.kafkaEvents.PostRemovedEvent;
+import com.merfonteen.kafkaEvents.PostUpdatedEvent;
+import com.merfonteen.outbox.OutboxMessage;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
-@Slf4j
 @RequiredArgsConstructor
 @Component
 public class PostEventProducer {
@@ -16,18 +15,21 @@ public class PostEventProducer {
     @Value("${topic.post-created}")
     private String postCreatedTopic;
 
+    @Value("${topic.post-updated}")
+    private String postUpdatedTopic;
+
     @Value("${topic.post-removed}")
     private String postRemovedTopic;
 
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    public OutboxMessage buildPostCreatedMessage(PostCreatedEvent event) {
+        return new OutboxMessage(postCreatedTopic, event.getPostId().toString(), event);
+    }
 
-    public void sendPostCreatedEvent(PostCreatedEvent event) {
-        kafkaTemplate.send(postCreatedTopic, event.getPostId().toString(), event);
-        log.info("PostCreatedEvent sent to topic '{}': {}", postCreatedTopic, event);
+    public OutboxMessage buildPostUpdatedMessage(PostUpdatedEvent event) {
+        return new OutboxMessage(postUpdatedTopic, event.getPostId().toString(), event);
     }
 
-    public void sendPostRemovedEvent(PostRemovedEvent event) {
-        kafkaTemplate.send(postRemovedTopic, event.getPostId().toString(), event);
-        log.info("PostRemovedEvent sent to topic '{}': {}", postRemovedTopic, event);
+    public OutboxMessage buildPostRemovedMessage(PostRemovedEvent event) {
+        return new OutboxMessage(postRemovedTopic, event.getPostId().toString(), event);
     }
 }
@@ -4,11 +4,10 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.merfonteen.kafkaEvents.PostCreatedEvent;
 import com.merfonteen.kafkaEvents.PostRemovedEvent;
+import com.merfonteen.kafkaEvents.PostUpdatedEvent;
 import com.merfonteen.postservice.model.Post;
 import com.merfonteen.postservice.model.enums.OutboxEventType;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
 @RequiredArgsConstructor
@@ -28,6 +27,14 @@ public class OutboxEventMapper {
         }
     }
 
+    public PostUpdatedEvent mapPostUpdatedEventFromJson(String json) {
+        try {
+            return objectMapper.readValue(json, PostUpdatedEvent.class);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to parse PostUpdatedEvent from JSON", e);
+        }
+    }
+
     public PostRemovedEvent mapPostRemovedEventFromJson(String json) {
         try {
             return objectMapper.readValue(json, PostRemovedEvent.class);
@@ -36,10 +43,6 @@ public class OutboxEventMapper {
         }
     }
 
-    public PageRequest buildPageRequest(int page, int size) {
-        return  PageRequest.of(page, size, Sort.by("createdAt").ascending());
-    }
-
     private String writeValueAsString(Post post, OutboxEventType eventType) {
         switch (eventType) {
             case POST_CREATED -> {
@@ -50,6 +53,14 @@ public class OutboxEventMapper {
                     throw new RuntimeException(e);
                 }
             }
+            case POST_UPDATED -> {
+                try {
+                    return objectMapper.writeValueAsString(
+                            new PostUpdatedEvent(post.getId(), post.getAuthorId(), post.getUpdatedAt()));
+                } catch (JsonProcessingException e) {
+                    throw new RuntimeException(e);
+                }
+            }
             case POST_REMOVED -> {
                 try {
                     return objectMapper.writeValueAsString(
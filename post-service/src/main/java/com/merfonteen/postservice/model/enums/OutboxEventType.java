@@ -1,5 +1,5 @@
 package com.merfonteen.postservice.model.enums;
 
 public enum OutboxEventType {
-    POST_CREATED, POST_REMOVED
+    POST_CREATED, POST_UPDATED, POST_REMOVED
 }
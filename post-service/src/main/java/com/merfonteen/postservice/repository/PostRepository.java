@@ -4,12 +4,19 @@ import com.merfonteen.postservice.model.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
     Page<Post> findAllByAuthorId(Long authorId, Pageable pageable);
     long countByAuthorId(Long authorId);
+
+    @Query("SELECT DISTINCT p FROM Post p LEFT JOIN FETCH p.media WHERE p.id IN :ids")
+    List<Post> findAllWithMediaByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -1,5 +1,8 @@
 package com.merfonteen.postservice.service;
 
+import com.merfonteen.outbox.OutboxEventRouter;
+import com.merfonteen.outbox.OutboxMessage;
+import com.merfonteen.outbox.OutboxRecord;
 import com.merfonteen.postservice.kafka.PostEventProducer;
 import com.merfonteen.postservice.mapper.OutboxEventMapper;
 import com.merfonteen.postservice.model.OutboxEvent;
@@ -8,60 +11,33 @@ import com.merfonteen.postservice.model.enums.OutboxEventType;
 import com.merfonteen.postservice.repository.OutboxEventRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.List;
 
-@Slf4j
 @RequiredArgsConstructor
 @Service
-public class OutboxService {
+public class OutboxService implements OutboxEventRouter {
     private final OutboxEventMapper mapper;
     private final PostEventProducer postEventProducer;
     private final OutboxEventRepository outboxEventRepository;
 
-    @Transactional
-    public void publishOutboxEvents() {
-        PageRequest page = mapper.buildPageRequest(0, 100);
-        Page<OutboxEvent> outboxEvents;
-
-        do {
-            outboxEvents = outboxEventRepository.findAllBySentFalse(page);
-            process(outboxEvents);
-            page = page.next();
-        } while(!outboxEvents.isEmpty());
-    }
-
-    public void process(Page<OutboxEvent> outboxEvents) {
-        List<Long> idsToMark = new ArrayList<>();
-        for (OutboxEvent event : outboxEvents) {
-            try {
-                switch (event.getEventType()) {
-                    case POST_CREATED -> postEventProducer.sendPostCreatedEvent(
-                            mapper.mapPostCreatedEventFromJson(event.getPayload()));
-                    case POST_REMOVED -> postEventProducer.sendPostRemovedEvent(
-                            mapper.mapPostRemovedEventFromJson(event.getPayload()));
-                    default -> {
-                        log.warn("Unknown event type: {}", event.getEventType());
-                        continue;
-                    }
-                }
-                idsToMark.add(event.getId());
-            } catch (Exception e) {
-                log.error("Failed to send Kafka event for outboxEventId={}: {}", event.getId(), e.getMessage());
-            }
-        }
-
-        if (!idsToMark.isEmpty()) {
-            outboxEventRepository.markAsSent(idsToMark);
-            log.info("Marked as sent {} events", idsToMark.size());
+    @Override
+    public OutboxMessage route(OutboxRecord record) {
+        OutboxEventType eventType;
+        try {
+            eventType = OutboxEventType.valueOf(record.eventType());
+        } catch (IllegalArgumentException e) {
+            return null;
         }
+        return switch (eventType) {
+            case POST_CREATED -> postEventProducer.buildPostCreatedMessage(
+                    mapper.mapPostCreatedEventFromJson(record.payload()));
+            case POST_UPDATED -> postEventProducer.buildPostUpdatedMessage(
+                    mapper.mapPostUpdatedEventFromJson(record.payload()));
+            case POST_REMOVED -> postEventProducer.buildPostRemovedMessage(
+                    mapper.mapPostRemovedEventFromJson(record.payload()));
+        };
     }
 
     @Transactional
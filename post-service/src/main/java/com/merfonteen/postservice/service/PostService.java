@@ -6,11 +6,15 @@ import com.merfonteen.postservice.dto.PostUpdateRequest;
 import com.merfonteen.postservice.dto.PostsSearchRequest;
 import com.merfonteen.postservice.dto.UserPostsPageResponse;
 
+import java.util.List;
+
 public interface PostService {
     PostResponse getPostById(Long id);
 
     Long getPostAuthorId(Long postId);
 
+    List<PostResponse> getPostsByIds(List<Long> ids);
+
     UserPostsPageResponse getUserPosts(Long userId, PostsSearchRequest request);
 
     Long getPostCount(Long userId);
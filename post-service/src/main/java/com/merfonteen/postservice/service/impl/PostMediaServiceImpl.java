@@ -4,16 +4,17 @@ import com.merfonteen.dtos.FileUploadResponse;
 import com.merfonteen.exceptions.ForbiddenException;
 import com.merfonteen.exceptions.NotFoundException;
 import com.merfonteen.postservice.client.MediaClient;
+import com.merfonteen.postservice.config.CacheNames;
 import com.merfonteen.postservice.model.Post;
 import com.merfonteen.postservice.model.PostMedia;
 import com.merfonteen.postservice.repository.PostMediaRepository;
 import com.merfonteen.postservice.repository.PostRepository;
 import com.merfonteen.postservice.service.PostMediaService;
+import com.merfonteen.postservice.service.redis.RedisCacheInvalidator;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Caching;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -31,6 +32,7 @@ public class PostMediaServiceImpl implements PostMediaService {
     private final MediaClient mediaClient;
     private final PostRepository postRepository;
     private final PostMediaRepository postMediaRepository;
+    private final RedisCacheInvalidator redisCacheInvalidator;
 
     @Override
     public List<String> getMediaUrlsForPost(Long postId) {
@@ -40,11 +42,7 @@ public class PostMediaServiceImpl implements PostMediaService {
                 .toList();
     }
 
-    @Caching(
-            evict = {
-                    @CacheEvict(value = "post-by-id", key = "#postId"),
-                    @CacheEvict(value = "user-posts", key = "#currentUserId")
-            })
+    @CacheEvict(value = CacheNames.POST_BY_ID, key = "#postId")
     @Transactional
     @Override
     public FileUploadResponse uploadMediaToPost(Long postId, MultipartFile file, Long currentUserId) {
@@ -62,15 +60,12 @@ public class PostMediaServiceImpl implements PostMediaService {
 
         postMediaRepository.save(postMedia);
         log.info("Post media file was saved successfully: {}", postMedia);
+        redisCacheInvalidator.evictUserPostsCache(currentUserId);
 
         return fileUploadResponse;
     }
 
-    @Caching(
-            evict = {
-                    @CacheEvict(value = "post-by-id", key = "#postId"),
-                    @CacheEvict(value = "user-posts", key = "#currentUserId")
-            })
+    @CacheEvict(value = CacheNames.POST_BY_ID, key = "#postId")
     @Transactional
     @Override
     public void deletePostMedia(Long postId, String fileType, String fileName, Long currentUserId) {
@@ -86,6 +81,7 @@ public class PostMediaServiceImpl implements PostMediaService {
         mediaClient.deletePostMedia(fileType, fileName);
         postMediaRepository.delete(postMediaFileToDelete);
         log.info("Post media file was successfully deleted: '{}', '{}'", fileType, fileName);
+        redisCacheInvalidator.evictUserPostsCache(currentUserId);
     }
 
     private Post findPostByIdOrThrowException(Long postId) {
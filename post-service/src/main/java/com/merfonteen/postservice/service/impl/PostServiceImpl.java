@@ -60,7 +60,21 @@ public class PostServiceImpl implements PostService {
         return post.getAuthorId();
     }
 
-    @Cacheable(value = CacheNames.USER_POSTS, key = "#userId + ':' + #searchRequest.page + ':' + #searchRequest.size")
+    @Override
+    public List<PostResponse> getPostsByIds(List<Long> ids) {
+        postValidator.checkBatchSize(ids);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        List<Post> posts = postRepository.findAllWithMediaByIdIn(ids);
+        log.debug("Found {} of {} requested posts", posts.size(), ids.size());
+
+        return postMapper.toListDtos(posts);
+    }
+
+    @Cacheable(value = CacheNames.USER_POSTS, key = "#userId + ':' + @redisCacheInvalidator.getUserPostsVersion(#userId) + " +
+                                                    "':' + #searchRequest.page + ':' + #searchRequest.size")
     @Override
     public UserPostsPageResponse getUserPosts(Long userId, PostsSearchRequest searchRequest) {
         postValidator.checkUserExists(userId);
@@ -123,6 +137,7 @@ public class PostServiceImpl implements PostService {
         Post updatedPost = postRepository.save(postToUpdate);
         log.info("Post with id '{}' successfully updated by user with id: '{}'", id, currentUserId);
 
+        outboxService.create(updatedPost, OutboxEventType.POST_UPDATED);
         redisCacheInvalidator.evictUserPostsCache(currentUserId);
 
         return postMapper.toDto(updatedPost);
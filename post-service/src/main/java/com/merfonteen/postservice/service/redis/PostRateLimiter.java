@@ -1,30 +1,26 @@
 package com.merfonteen.postservice.service.redis;
 
 import com.merfonteen.exceptions.TooManyRequestsException;
-import lombok.RequiredArgsConstructor;
+import com.merfonteen.ratelimit.SlidingWindowRateLimiter;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 
-@RequiredArgsConstructor
 @Service
 public class PostRateLimiter {
-    private final StringRedisTemplate stringRedisTemplate;
-
     private static final String CACHE_KEY = "limit:post:user:";
     private static final int POST_LIMIT = 5;
     private static final Duration DURATION = Duration.ofMinutes(1);
 
-    public void limitPostCreation(Long userId) {
-        String key = CACHE_KEY + userId;
-        Long currentCount = stringRedisTemplate.opsForValue().increment(key);
+    private final SlidingWindowRateLimiter rateLimiter;
 
-        if(currentCount != null && currentCount == 1) {
-            stringRedisTemplate.expire(key, DURATION);
-        }
+    public PostRateLimiter(StringRedisTemplate stringRedisTemplate) {
+        this.rateLimiter = new SlidingWindowRateLimiter(stringRedisTemplate, CACHE_KEY, POST_LIMIT, DURATION);
+    }
 
-        if(currentCount != null && currentCount > POST_LIMIT) {
+    public void limitPostCreation(Long userId) {
+        if (!rateLimiter.tryAcquire(userId)) {
             throw new TooManyRequestsException("You have exceeded the allowed number of posts per minute");
         }
     }
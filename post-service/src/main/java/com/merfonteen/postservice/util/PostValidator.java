@@ -1,5 +1,6 @@
 package com.merfonteen.postservice.util;
 
+import com.merfonteen.exceptions.BadRequestException;
 import com.merfonteen.exceptions.NotFoundException;
 import com.merfonteen.postservice.client.UserClient;
 import feign.FeignException;
@@ -7,10 +8,14 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+
 @Slf4j
 @RequiredArgsConstructor
 @Component
 public class PostValidator {
+    private static final int MAX_BATCH_SIZE = 100;
+
     private final UserClient userClient;
 
     public void checkUserExists(Long userId) {
@@ -21,4 +26,10 @@ public class PostValidator {
             throw new NotFoundException(String.format("User with id '%d' not found", userId));
         }
     }
+
+    public void checkBatchSize(Collection<Long> ids) {
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException(String.format("Batch size must not exceed %d", MAX_BATCH_SIZE));
+        }
+    }
 }
@@ -0,0 +1,2 @@
+DROP INDEX post_service.idx_outbox_events_sent_false;
+CREATE INDEX idx_outbox_events_unsent_id ON post_service.outbox_events (id) WHERE sent = FALSE;
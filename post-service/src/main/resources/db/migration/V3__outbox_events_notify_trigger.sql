@@ -0,0 +1,10 @@
+CREATE OR REPLACE FUNCTION post_service.notify_outbox_events() RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM pg_notify('post_service_outbox', '');
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_outbox_events_notify
+    AFTER INSERT ON post_service.outbox_events
+    FOR EACH STATEMENT EXECUTE FUNCTION post_service.notify_outbox_events();
@@ -0,0 +1,46 @@
+ALTER TABLE post_service.outbox_events RENAME TO outbox_events_legacy;
+ALTER SEQUENCE post_service.outbox_events_id_seq OWNED BY NONE;
+
+CREATE TABLE post_service.outbox_events
+(
+    id             BIGINT    NOT NULL DEFAULT nextval('post_service.outbox_events_id_seq'),
+    aggregate_type VARCHAR   NOT NULL,
+    aggregate_id   BIGINT    NOT NULL,
+    event_type     VARCHAR   NOT NULL,
+    payload        JSONB     NOT NULL,
+    sent           BOOLEAN   NOT NULL DEFAULT FALSE,
+    created_at     TIMESTAMP NOT NULL DEFAULT NOW()
+) PARTITION BY RANGE (created_at);
+
+ALTER SEQUENCE post_service.outbox_events_id_seq OWNED BY post_service.outbox_events.id;
+
+CREATE TABLE post_service.outbox_events_default PARTITION OF post_service.outbox_events DEFAULT;
+
+DO
+$$
+    DECLARE
+        day DATE;
+    BEGIN
+        FOR day IN SELECT generate_series(current_date - 3, current_date + 7, INTERVAL '1 day')::date
+            LOOP
+                EXECUTE format(
+                        'CREATE TABLE post_service.%I PARTITION OF post_service.outbox_events FOR VALUES FROM (%L) TO (%L)',
+                        'outbox_events_p' || to_char(day, 'YYYYMMDD'), day, day + 1);
+            END LOOP;
+    END
+$$;
+
+INSERT INTO post_service.outbox_events (id, aggregate_type, aggregate_id, event_type, payload, sent, created_at)
+SELECT id, aggregate_type, aggregate_id, event_type, payload, sent, created_at
+FROM post_service.outbox_events_legacy
+WHERE created_at >= current_date - 3 OR sent = FALSE;
+
+DROP TABLE post_service.outbox_events_legacy;
+
+ALTER TABLE post_service.outbox_events ADD CONSTRAINT pk_outbox_events PRIMARY KEY (id, created_at);
+
+CREATE INDEX idx_outbox_events_unsent_id ON post_service.outbox_events (id) WHERE sent = FALSE;
+
+CREATE TRIGGER trg_outbox_events_notify
+    AFTER INSERT ON post_service.outbox_events
+    FOR EACH STATEMENT EXECUTE FUNCTION post_service.notify_outbox_events();
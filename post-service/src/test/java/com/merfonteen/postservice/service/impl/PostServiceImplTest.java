@@ -86,6 +86,29 @@ class PostServiceImplTest {
         assertThrows(NotFoundException.class, () -> postService.getPostById(POST_ID));
     }
 
+    @Test
+    void testGetPostsByIds_Success() {
+        Post post = buildPost();
+        List<Long> ids = List.of(POST_ID, UNKNOWN_POST_ID);
+        List<PostResponse> expected = List.of(buildPostResponseDto(CONTENT));
+
+        when(postRepository.findAllWithMediaByIdIn(ids)).thenReturn(List.of(post));
+        when(postMapper.toListDtos(List.of(post))).thenReturn(expected);
+
+        List<PostResponse> result = postService.getPostsByIds(ids);
+
+        assertThat(result).isEqualTo(expected);
+        verify(postValidator).checkBatchSize(ids);
+    }
+
+    @Test
+    void testGetPostsByIds_WhenEmpty_ShouldNotQueryDatabase() {
+        List<PostResponse> result = postService.getPostsByIds(List.of());
+
+        assertThat(result).isEmpty();
+        verifyNoInteractions(postRepository);
+    }
+
     @Test
     void testGetUserPosts_Success() {
         PageRequest pageRequest = buildPageRequest();
@@ -147,6 +170,7 @@ class PostServiceImplTest {
         PostResponse result = postService.updatePost(POST_ID, postUpdateRequest, AUTHOR_ID);
 
         assertThat(result).isEqualTo(postDto);
+        verify(outboxService).create(savedPost, OutboxEventType.POST_UPDATED);
     }
 
     @Test
@@ -212,6 +236,7 @@ class PostServiceImplTest {
         static final Long POST_ID = 1L;
         static final Long AUTHOR_ID = 1L;
         static final Long UNKNOWN_USER_ID = 999L;
+        static final Long UNKNOWN_POST_ID = 999L;
         static final int PAGE = 0;
         static final int SIZE = 10;
         static final PostSortField DEFAULT_SORT_FIELD = PostSortField.CREATED_AT;
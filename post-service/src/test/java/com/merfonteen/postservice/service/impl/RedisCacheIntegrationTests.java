@@ -91,19 +91,19 @@ public class RedisCacheIntegrationTests extends AbstractRedisIntegrationTest {
         testRestTemplate.postForEntity("/api/posts", request, PostResponse.class);
 
         assertThat(redisOps.get(buildUserPostsCacheKey(post.getAuthorId()))).isNull();
+        assertThat(redisOps.get(buildUserPostsVersionKey(post.getAuthorId()))).isEqualTo("1");
     }
 
     @Test
     void testUpdatePost_ShouldEvictCache() {
         Post post = getSavedPost();
         String postByIdCacheKey = buildPostByIdCacheKey(post.getId());
-        String userPostsCacheKey = buildUserPostsCacheKey(post.getAuthorId());
 
         testRestTemplate.getForEntity(POSTS_URL + post.getId(), PostResponse.class);
         assertThat(redisOps.get(postByIdCacheKey)).isNotNull();
 
         testRestTemplate.getForEntity(USER_POSTS_URL + post.getAuthorId(), UserPostsPageResponse.class);
-        assertThat(redisOps.get(userPostsCacheKey)).isNotNull();
+        assertThat(redisOps.get(buildUserPostsCacheKey(post.getAuthorId()))).isNotNull();
 
         HttpHeaders httpHeaders = buildHttpHeaders(post.getAuthorId());
         HttpEntity<PostUpdateRequest> request = new HttpEntity<>(buildPostUpdateRequest(), httpHeaders);
@@ -115,20 +115,19 @@ public class RedisCacheIntegrationTests extends AbstractRedisIntegrationTest {
         );
 
         assertThat(redisOps.get(postByIdCacheKey)).isNull();
-        assertThat(redisOps.get(userPostsCacheKey)).isNull();
+        assertThat(redisOps.get(buildUserPostsCacheKey(post.getAuthorId()))).isNull();
     }
 
     @Test
     void testDeletePost_ShouldEvictCache() {
         Post post = getSavedPost();
         String postByIdCacheKey = buildPostByIdCacheKey(post.getId());
-        String userPostsCacheKey = buildUserPostsCacheKey(post.getAuthorId());
 
         testRestTemplate.getForEntity(POSTS_URL + post.getId(), PostResponse.class);
         assertThat(redisOps.get(postByIdCacheKey)).isNotNull();
 
         testRestTemplate.getForEntity(USER_POSTS_URL + post.getAuthorId(), UserPostsPageResponse.class);
-        assertThat(redisOps.get(userPostsCacheKey)).isNotNull();
+        assertThat(redisOps.get(buildUserPostsCacheKey(post.getAuthorId()))).isNotNull();
 
         HttpHeaders httpHeaders = buildHttpHeaders(post.getAuthorId());
         HttpEntity<Void> request = new HttpEntity<>(httpHeaders);
@@ -141,7 +140,7 @@ public class RedisCacheIntegrationTests extends AbstractRedisIntegrationTest {
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
         assertThat(redisOps.get(postByIdCacheKey)).isNull();
-        assertThat(redisOps.get(userPostsCacheKey)).isNull();
+        assertThat(redisOps.get(buildUserPostsCacheKey(post.getAuthorId()))).isNull();
     }
 
     @NotNull
@@ -160,12 +159,18 @@ public class RedisCacheIntegrationTests extends AbstractRedisIntegrationTest {
         static final String USER_POSTS_URL = "/api/posts/users/";
         static final String POST_BY_ID_CACHE_KEY = "post-by-id::";
         static final String USER_POSTS_CACHE_KEY = "user-posts::";
+        static final String USER_POSTS_VERSION_KEY = "cache-version:user-posts:";
         static final String CONTENT = "Test content for post";
         static final Instant DATE_CREATION = Instant.now();
     }
 
-    static String buildUserPostsCacheKey(Long postAuthorId) {
-        return USER_POSTS_CACHE_KEY + postAuthorId + ":0" + ":10";
+    String buildUserPostsCacheKey(Long postAuthorId) {
+        String version = redisOps.get(buildUserPostsVersionKey(postAuthorId));
+        return USER_POSTS_CACHE_KEY + postAuthorId + ":" + (version == null ? "0" : version) + ":0" + ":10";
+    }
+
+    static String buildUserPostsVersionKey(Long postAuthorId) {
+        return USER_POSTS_VERSION_KEY + postAuthorId;
     }
 
     static String buildPostByIdCacheKey(Long postId) {
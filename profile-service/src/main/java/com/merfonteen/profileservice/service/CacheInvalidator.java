@@ -1,36 +1,25 @@
 package com.merfonteen.profileservice.service;
 
-import lombok.RequiredArgsConstructor;
+import com.merfonteen.cache.CacheVersionStore;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.Cursor;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
-import java.util.HashSet;
-import java.util.Set;
-
 @Slf4j
-@RequiredArgsConstructor
 @Component
 public class CacheInvalidator {
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final CacheVersionStore cacheVersionStore;
 
-    public void invalidateCacheByEntityId(String cacheName, Long entityId) {
-        Set<String> keys = new HashSet<>();
-        String pattern = cacheName + "::" + entityId + ":*";
-        try (Cursor<String> scan = redisTemplate.scan(ScanOptions.scanOptions()
-                        .match(pattern)
-                        .count(500)
-                        .build())) {
-            scan.forEachRemaining(keys::add);
-        } catch (Exception ignored) {
-            log.error("Error while invalidating cache={}, entityId={}", cacheName, entityId);
-        }
-        if (!keys.isEmpty()) {
-            redisTemplate.delete(keys);
-            log.info("Evicted {} cached pages for entityId={}", keys.size(), entityId);
-        }
+    public CacheInvalidator(StringRedisTemplate stringRedisTemplate) {
+        this.cacheVersionStore = new CacheVersionStore(stringRedisTemplate);
+    }
+
+    public long getVersion(String cacheName, Long entityId) {
+        return cacheVersionStore.getVersion(cacheName, entityId);
     }
 
+    public void invalidateCacheByEntityId(String cacheName, Long entityId) {
+        cacheVersionStore.bumpVersion(cacheName, entityId);
+        log.info("Bumped cache={} version for entityId={}", cacheName, entityId);
+    }
 }
@@ -27,7 +27,8 @@ public class CommentQueryService {
     private final CommentMapper commentMapper;
     private final CommentReadModelRepository commentReadModelRepository;
 
-    @Cacheable(value = POST_COMMENTS_CACHE, key = "#postId + ':' + #request.limit + ':' + #request.cursor")
+    @Cacheable(value = POST_COMMENTS_CACHE, key = "#postId + ':' + @cacheInvalidator.getVersion(#root.caches[0].name, #postId) + " +
+                                                  "':' + #request.limit + ':' + #request.cursor")
     public CommentPageDto getComments(Long postId, CommentsSearchRequest request) {
         log.debug("Getting comments on post='{}', limit='{}'", postId, request.getLimit());
         Pageable page = Pageable.ofSize(Math.min(Math.max(request.getLimit(), 1), 100));
@@ -35,7 +35,8 @@ public class PostQueryService {
     private final PostReadModelRepository postReadModelRepository;
     private final CommentMapper commentMapper;
 
-    @Cacheable(value = USER_POSTS_CACHE, key = "#userId + ':' + #request.limit + ':' + #request.cursor")
+    @Cacheable(value = USER_POSTS_CACHE, key = "#userId + ':' + @cacheInvalidator.getVersion(#root.caches[0].name, #userId) + " +
+                                               "':' + #request.limit + ':' + #request.cursor")
     public PostPageDto getUserPosts(Long userId, PostsSearchRequest request) {
         log.debug("Getting user posts for id='{}', limit='{}'", userId, request.getLimit());
         Pageable page = Pageable.ofSize(Math.min(Math.max(request.getLimit(), 1), 100));